@@ -0,0 +1,110 @@
+package com.infnet.benchmarks;
+
+import com.infnet.enrollmentmodule.EnrollmentModuleApplication;
+import com.infnet.enrollmentmodule.client.StudentClient;
+import com.infnet.enrollmentreactivemodule.EnrollmentReactiveModuleApplication;
+import com.infnet.studentmodule.StudentModuleApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the service modules without Consul or SQL logging. Every module ships an
+ * {@code application.yml} and only one of them wins on a shared classpath, so everything the
+ * benchmarks depend on is passed as command line arguments, which take precedence over all of them.
+ * The shared classpath also carries both JDBC and R2DBC, so each context switches off the one it does not use.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext startStudentService() {
+        return new SpringApplicationBuilder(StudentModuleApplication.class)
+                .run(jpaArguments("student-service", "studentdb", "none"));
+    }
+
+    static ConfigurableApplicationContext startEnrollmentService(StudentClient studentClient) {
+        return startEnrollmentService(studentClient, "enrollmentdb", "none");
+    }
+
+    /**
+     * Starts the MVC enrollment-service on a random port; read it back with {@link #localPort}.
+     */
+    static ConfigurableApplicationContext startEnrollmentServer(StudentClient studentClient) {
+        return startEnrollmentService(studentClient, "enrollmentdb-web", "servlet");
+    }
+
+    /**
+     * Starts the WebFlux/R2DBC enrollment-service on a random port. Tomcat is on the shared classpath too,
+     * so the Netty server factory is registered explicitly to benchmark the stack as it is deployed.
+     */
+    static ConfigurableApplicationContext startReactiveEnrollmentServer() {
+        return new SpringApplicationBuilder(EnrollmentReactiveModuleApplication.class)
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        NettyReactiveWebServerFactory.class, () -> new NettyReactiveWebServerFactory()))
+                .run(
+                        "--spring.application.name=enrollment-service",
+                        "--spring.main.web-application-type=reactive",
+                        "--spring.main.banner-mode=off",
+                        "--server.port=0",
+                        "--spring.cloud.consul.enabled=false",
+                        "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///bench-enrollmentdb-reactive;DB_CLOSE_DELAY=-1",
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=",
+                        "--spring.sql.init.mode=always",
+                        "--spring.sql.init.schema-locations=classpath:db/enrollment-reactive/schema.sql",
+                        "--logging.level.root=WARN"
+                );
+    }
+
+    static int localPort(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    private static ConfigurableApplicationContext startEnrollmentService(StudentClient studentClient, String database,
+                                                                         String webApplicationType) {
+        return new SpringApplicationBuilder(EnrollmentModuleApplication.class)
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        StudentClient.class, () -> studentClient, definition -> definition.setPrimary(true)))
+                .run(jpaArguments("enrollment-service", database, webApplicationType));
+    }
+
+    private static String[] jpaArguments(String applicationName, String database, String webApplicationType) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.application.name=" + applicationName,
+                "--spring.main.web-application-type=" + webApplicationType,
+                "--spring.main.banner-mode=off",
+                "--spring.cloud.consul.enabled=false",
+                "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+                "--spring.sql.init.mode=never",
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "--spring.jpa.properties.hibernate.order_inserts=true",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=true",
+                "--spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+                "--student-outbox.relay-enabled=false",
+                "--student-projection.backfill-enabled=false",
+                "--grpc.server.port=-1",
+                "--logging.level.root=WARN"
+        ));
+
+        if (!"none".equals(webApplicationType)) {
+            arguments.add("--server.port=0");
+        }
+
+        return arguments.toArray(String[]::new);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.infnet.benchmarks;
+
+import com.infnet.enrollmentmodule.cache.StudentCache;
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentmodule.entity.Enrollment;
+import com.infnet.enrollmentmodule.repository.EnrollmentRepository;
+import com.infnet.enrollmentmodule.service.EnrollmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrollmentServiceBenchmark {
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    @Param({"10000"})
+    private int datasetSize;
+
+    @Param({"1000"})
+    private int distinctStudents;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private StudentCache studentCache;
+    private long cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.startEnrollmentService(new StubStudentClient());
+        enrollmentService = context.getBean(EnrollmentService.class);
+        studentCache = context.getBean(StudentCache.class);
+
+        EnrollmentRepository enrollmentRepository = context.getBean(EnrollmentRepository.class);
+        List<Enrollment> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+
+        for (int i = 0; i < datasetSize; i++) {
+            Enrollment enrollment = new Enrollment();
+            enrollment.setStudentId((long) (i % distinctStudents) + 1);
+            enrollment.setCourseName("Course " + (i % 50));
+            enrollment.setEnrollmentDate(LocalDate.of(2024, 2, 1));
+            enrollment.setStatus("ACTIVE");
+            chunk.add(enrollment);
+
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                enrollmentRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+
+        enrollmentRepository.saveAll(chunk);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EnrollmentResponseDTO> getAllEnrollmentsWarmCache() {
+        return enrollmentService.getAllEnrollments();
+    }
+
+    @Benchmark
+    public List<EnrollmentResponseDTO> getAllEnrollmentsColdCache() {
+        studentCache.invalidateAll();
+        return enrollmentService.getAllEnrollments();
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<EnrollmentResponseDTO> getEnrollmentsPage() {
+        CursorPageResponseDTO<EnrollmentResponseDTO> page = enrollmentService.getEnrollmentsPage(cursor, pageSize);
+        cursor = page.getNext() != null ? page.getNext() : 0L;
+        return page;
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.infnet.benchmarks;
+
+import com.infnet.enrollmentmodule.entity.Enrollment;
+import com.infnet.enrollmentmodule.entity.StudentProjection;
+import com.infnet.enrollmentmodule.repository.EnrollmentRepository;
+import com.infnet.enrollmentmodule.repository.StudentProjectionRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Drives the MVC (Tomcat + JPA) and reactive (Netty + R2DBC) enrollment-service over real HTTP with
+ * {@code concurrency} requests in flight. The {@code requests} counter is the request throughput; after each
+ * iteration the live thread count and heap growth per open connection are printed, which is where the two
+ * stacks differ most at high concurrency. Add {@code -prof gc} for allocation per request.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar EnrollmentStackBenchmark -p concurrency=256,2048
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EnrollmentStackBenchmark {
+
+    private static final int DATASET_SIZE = 10_000;
+    private static final int DISTINCT_STUDENTS = 1_000;
+
+    @Param({"mvc", "reactive"})
+    private String stack;
+
+    @Param({"256", "2048"})
+    private int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private long baselineHeap;
+    private int nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("mvc".equals(stack)) {
+            context = BenchmarkContexts.startEnrollmentServer(new StubStudentClient());
+            seedMvc(context);
+        } else {
+            context = BenchmarkContexts.startReactiveEnrollmentServer();
+            seedReactive(context);
+        }
+
+        baseUrl = "http://localhost:" + BenchmarkContexts.localPort(context) + "/enrollments/";
+        clientExecutor = Executors.newFixedThreadPool(4);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+        System.gc();
+        baselineHeap = usedHeap();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportFootprint() {
+        long heapPerConnection = Math.max(0, usedHeap() - baselineHeap) / concurrency;
+        System.out.printf("%n[%s, %d connections] live threads: %d, heap growth per connection: %d KB%n",
+                stack, concurrency, ManagementFactory.getThreadMXBean().getThreadCount(), heapPerConnection / 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public void getEnrollmentById(RequestCounter counter) {
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[concurrency];
+
+        for (int i = 0; i < concurrency; i++) {
+            nextId = nextId % DATASET_SIZE + 1;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + nextId)).GET().build();
+            inFlight[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                    });
+        }
+
+        CompletableFuture.allOf(inFlight).join();
+        counter.requests += concurrency;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RequestCounter {
+
+        public long requests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+        }
+
+    }
+
+    private static long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void seedMvc(ConfigurableApplicationContext context) {
+        List<StudentProjection> students = IntStream.rangeClosed(1, DISTINCT_STUDENTS)
+                .mapToObj(id -> new StudentProjection((long) id, "Student " + id, true, false, 1L, LocalDateTime.now()))
+                .toList();
+        context.getBean(StudentProjectionRepository.class).saveAll(students);
+
+        List<Enrollment> enrollments = new ArrayList<>(DATASET_SIZE);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            Enrollment enrollment = new Enrollment();
+            enrollment.setStudentId((long) (i % DISTINCT_STUDENTS) + 1);
+            enrollment.setCourseName("Course " + (i % 50));
+            enrollment.setEnrollmentDate(LocalDate.of(2024, 2, 1));
+            enrollment.setStatus("ACTIVE");
+            enrollments.add(enrollment);
+        }
+        context.getBean(EnrollmentRepository.class).saveAll(enrollments);
+    }
+
+    private static void seedReactive(ConfigurableApplicationContext context) {
+        var projectionRepository = context.getBean(
+                com.infnet.enrollmentreactivemodule.repository.StudentProjectionRepository.class);
+        var enrollmentRepository = context.getBean(
+                com.infnet.enrollmentreactivemodule.repository.EnrollmentRepository.class);
+
+        Flux.range(1, DISTINCT_STUDENTS)
+                .map(id -> {
+                    var projection = new com.infnet.enrollmentreactivemodule.entity.StudentProjection();
+                    projection.setId((long) id);
+                    projection.setName("Student " + id);
+                    projection.setActive(true);
+                    projection.setDeleted(false);
+                    projection.setLastChangeVersion(1L);
+                    projection.setUpdatedAt(LocalDateTime.now());
+                    return projection.markNew();
+                })
+                .concatMap(projectionRepository::save)
+                .blockLast();
+
+        Flux.range(0, DATASET_SIZE)
+                .map(i -> new com.infnet.enrollmentreactivemodule.entity.Enrollment(
+                        null, (long) (i % DISTINCT_STUDENTS) + 1, "Course " + (i % 50), LocalDate.of(2024, 2, 1), "ACTIVE"))
+                .concatMap(enrollmentRepository::save)
+                .blockLast();
+    }
+
+}
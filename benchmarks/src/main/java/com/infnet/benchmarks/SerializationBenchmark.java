@@ -0,0 +1,82 @@
+package com.infnet.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infnet.enrollmentmodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private JavaType studentDTOListType;
+    private List<StudentResponseDTO> students;
+    private List<EnrollmentResponseDTO> enrollments;
+    private byte[] studentsJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        studentDTOListType = objectMapper.getTypeFactory().constructCollectionType(List.class, StudentDTO.class);
+
+        students = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> {
+                    StudentDTO student = StubStudentClient.student(id);
+                    return new StudentResponseDTO(student.getId(), student.getName(), student.getEmail(),
+                            student.getCpf(), student.getBirthDate(), student.getActive());
+                })
+                .collect(Collectors.toList());
+
+        enrollments = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> new EnrollmentResponseDTO(id, id, "Student " + id, "Course " + (id % 50),
+                        LocalDate.of(2024, 2, 1), "ACTIVE"))
+                .collect(Collectors.toList());
+
+        studentsJson = objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] serializeStudentResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] serializeEnrollmentResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(enrollments);
+    }
+
+    @Benchmark
+    public List<StudentDTO> deserializeStudentDTOs() throws IOException {
+        return objectMapper.readValue(studentsJson, studentDTOListType);
+    }
+
+}
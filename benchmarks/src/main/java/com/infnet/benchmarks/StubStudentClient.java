@@ -0,0 +1,44 @@
+package com.infnet.benchmarks;
+
+import com.infnet.enrollmentmodule.client.StudentClient;
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Answers student lookups from memory so the enrollment benchmarks measure enrollment-service alone.
+ */
+class StubStudentClient implements StudentClient {
+
+    @Override
+    public StudentDTO getStudentById(Long id) {
+        return student(id);
+    }
+
+    @Override
+    public List<StudentDTO> getStudentsByIds(List<Long> ids) {
+        return ids.stream()
+                .map(StubStudentClient::student)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CursorPageResponseDTO<StudentDTO> getStudentsPage(Long cursor, int limit) {
+        return new CursorPageResponseDTO<>(List.of(), null);
+    }
+
+    static StudentDTO student(Long id) {
+        return new StudentDTO(
+                id,
+                "Student " + id,
+                "student" + id + "@infnet.edu.br",
+                String.format("%011d", id),
+                LocalDate.of(2000, 1, 1).plusDays(id % 3650),
+                true
+        );
+    }
+
+}
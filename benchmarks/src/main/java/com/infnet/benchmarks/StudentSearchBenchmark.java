@@ -0,0 +1,85 @@
+package com.infnet.benchmarks;
+
+import com.infnet.studentmodule.config.StudentSearchProperties;
+import com.infnet.studentmodule.search.StudentSearchHits;
+import com.infnet.studentmodule.search.StudentSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name search over an index of generated Brazilian names, without Spring or the database: the time a
+ * {@code GET /students/search} spends in the index before it loads the page of students.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StudentSearchBenchmark {
+
+    private static final List<String> FIRST_NAMES = List.of("Maria", "José", "Ana", "João", "Antônio", "Francisca",
+            "Carlos", "Paulo", "Adriana", "Lucas", "Juliana", "Marcos", "Fernanda", "Pedro", "Patrícia", "Rafael",
+            "Aline", "Gabriel", "Camila", "Bruno", "Letícia", "Felipe", "Larissa", "Gustavo", "Beatriz", "Thiago",
+            "Mariana", "Rodrigo", "Bárbara", "Vinícius");
+    private static final List<String> LAST_NAMES = List.of("Silva", "Santos", "Oliveira", "Souza", "Rodrigues",
+            "Ferreira", "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida",
+            "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira",
+            "Nunes", "Marques", "Machado", "Mendes", "Freitas", "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira");
+
+    @Param({"1000000"})
+    private int datasetSize;
+
+    @Param({"mar", "joao silva", "fernandez", "leticia mach"})
+    private String query;
+
+    private StudentSearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        searchIndex = new StudentSearchIndex(new StudentSearchProperties());
+
+        Random random = new Random(42);
+        for (long id = 1; id <= datasetSize; id++) {
+            searchIndex.index(id, pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random) + " "
+                    + pick(LAST_NAMES, random));
+        }
+        searchIndex.publish();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Benchmark
+    public StudentSearchHits firstPage() {
+        return searchIndex.search(query, 0, 20);
+    }
+
+    @Benchmark
+    public StudentSearchHits fifthPage() {
+        return searchIndex.search(query, 80, 20);
+    }
+
+    private static String pick(List<String> names, Random random) {
+        return names.get(random.nextInt(names.size()));
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.infnet.benchmarks;
+
+import com.infnet.studentmodule.dto.BulkImportResponseDTO;
+import com.infnet.studentmodule.dto.BulkStudentResultDTO;
+import com.infnet.studentmodule.dto.CursorPageResponseDTO;
+import com.infnet.studentmodule.dto.StudentRequestDTO;
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+import com.infnet.studentmodule.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentServiceBenchmark {
+
+    @Param({"10000"})
+    private int datasetSize;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private List<Long> studentIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.startStudentService();
+        studentService = context.getBean(StudentService.class);
+
+        List<StudentRequestDTO> requests = IntStream.rangeClosed(1, datasetSize)
+                .mapToObj(i -> new StudentRequestDTO("Student " + i, "student" + i + "@infnet.edu.br",
+                        String.format("%011d", i), LocalDate.of(2000, 1, 1).plusDays(i % 3650)))
+                .collect(Collectors.toList());
+
+        BulkImportResponseDTO imported = studentService.importStudents(requests.iterator());
+        studentIds = imported.getResults().stream()
+                .map(BulkStudentResultDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StudentResponseDTO getStudentById() {
+        return studentService.getStudentById(studentIds.get(nextIndex(1)));
+    }
+
+    @Benchmark
+    public List<StudentResponseDTO> getStudentsByIds() {
+        int from = nextIndex(batchSize);
+        return studentService.getStudentsByIds(studentIds.subList(from, from + batchSize));
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<StudentResponseDTO> getStudentsPage() {
+        int from = nextIndex(batchSize);
+        return studentService.getStudentsPage(studentIds.get(from), batchSize);
+    }
+
+    private int nextIndex(int width) {
+        int bound = Math.max(1, studentIds.size() - width);
+        next = (next + 7919) % bound;
+        return next;
+    }
+
+}
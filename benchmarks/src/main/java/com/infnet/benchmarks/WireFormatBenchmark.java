@@ -0,0 +1,98 @@
+package com.infnet.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Student Service responses as enrollment-service reads them, in JSON and in Smile. The encoded payload size of
+ * each combination is printed once per trial, next to the timing results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"1", "100", "500"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private JavaType studentDTOListType;
+    private List<StudentResponseDTO> students;
+    private StudentResponseDTO student;
+    private byte[] studentsPayload;
+    private byte[] studentPayload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("smile".equals(format)) {
+            builder.factory(new SmileFactory());
+        }
+        objectMapper = builder.build();
+        studentDTOListType = objectMapper.getTypeFactory().constructCollectionType(List.class, StudentDTO.class);
+
+        students = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> {
+                    StudentDTO dto = StubStudentClient.student(id);
+                    return new StudentResponseDTO(dto.getId(), dto.getName(), dto.getEmail(),
+                            dto.getCpf(), dto.getBirthDate(), dto.getActive());
+                })
+                .collect(Collectors.toList());
+        student = students.get(0);
+
+        studentsPayload = objectMapper.writeValueAsBytes(students);
+        studentPayload = objectMapper.writeValueAsBytes(student);
+
+        System.out.printf("%n%s payload: %d bytes for one student, %d bytes for %d students%n",
+                format, studentPayload.length, studentsPayload.length, listSize);
+    }
+
+    @Benchmark
+    public byte[] serializeStudentResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public byte[] serializeStudentResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public StudentDTO deserializeStudentDTO() throws IOException {
+        return objectMapper.readValue(studentPayload, StudentDTO.class);
+    }
+
+    @Benchmark
+    public List<StudentDTO> deserializeStudentDTOs() throws IOException {
+        return objectMapper.readValue(studentsPayload, studentDTOListType);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.infnet.enrollmentmodule.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.infnet.enrollmentmodule.client.ResilientStudentClient;
+import com.infnet.enrollmentmodule.client.StudentResolver;
+import com.infnet.enrollmentmodule.config.StudentCacheProperties;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-side cache of students. Besides the short-lived cache it keeps the last copy fetched of each student, which
+ * reads fall back to while Student Service is unavailable. Writes validate against
+ * {@link ResilientStudentClient} directly and never see a stale copy.
+ */
+@Component
+@Slf4j
+public class StudentCache {
+
+    private final StudentResolver studentResolver;
+    private final LoadingCache<Long, StudentDTO> cache;
+    private final Cache<Long, StudentDTO> lastKnown;
+    private final Counter staleReads;
+
+    public StudentCache(StudentResolver studentResolver, StudentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.studentResolver = studentResolver;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build(new StudentLoader());
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getStaleTtl())
+                .build();
+        this.staleReads = Counter.builder("student.cache.stale.reads")
+                .description("Students served from their last known copy because Student Service was unavailable")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "students");
+    }
+
+    public StudentDTO getStudent(Long id) {
+        try {
+            return cache.get(id);
+        } catch (RuntimeException ex) {
+            StudentDTO stale = ResilientStudentClient.isServiceFailure(ex) ? lastKnown.getIfPresent(id) : null;
+            if (stale == null) {
+                throw ex;
+            }
+            log.warn("Serving last known copy of student {}: {}", id, ex.getMessage());
+            staleReads.increment();
+            return stale;
+        }
+    }
+
+    public Map<Long, StudentDTO> getStudents(Collection<Long> ids) {
+        try {
+            return cache.getAll(ids);
+        } catch (RuntimeException ex) {
+            if (!ResilientStudentClient.isServiceFailure(ex)) {
+                throw ex;
+            }
+            Map<Long, StudentDTO> stale = new HashMap<>(lastKnown.getAllPresent(ids));
+            if (stale.isEmpty()) {
+                throw ex;
+            }
+            // Whatever is still cached is fresher than the last known copies
+            stale.putAll(cache.getAllPresent(ids));
+            log.warn("Serving last known copies of {} of {} students: {}", stale.size(), ids.size(), ex.getMessage());
+            staleReads.increment(stale.size());
+            return stale;
+        }
+    }
+
+    public void put(StudentDTO student) {
+        cache.put(student.getId(), student);
+        lastKnown.put(student.getId(), student);
+    }
+
+    public void invalidate(Long id) {
+        log.info("Invalidating cached student with ID: {}", id);
+        cache.invalidate(id);
+        lastKnown.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        log.info("Invalidating {} cached students", ids.size());
+        cache.invalidateAll(ids);
+        lastKnown.invalidateAll(ids);
+    }
+
+    public void invalidateAll() {
+        log.info("Invalidating all cached students");
+        cache.invalidateAll();
+        lastKnown.invalidateAll();
+    }
+
+    private class StudentLoader implements CacheLoader<Long, StudentDTO> {
+
+        @Override
+        public StudentDTO load(Long id) {
+            StudentDTO student = studentResolver.resolve(id);
+            lastKnown.put(id, student);
+            return student;
+        }
+
+        @Override
+        public Map<Long, StudentDTO> loadAll(Set<? extends Long> keys) {
+            Map<Long, StudentDTO> students = studentResolver.resolveAll(new ArrayList<>(keys));
+            lastKnown.putAll(students);
+            return students;
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.infnet.enrollmentmodule.client;
+
+import com.infnet.enrollmentmodule.config.StudentClientProperties;
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.global.exception.StudentNotFoundException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceFailureException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceTimeoutException;
+import com.infnet.enrollmentmodule.grpc.GetStudentRequest;
+import com.infnet.enrollmentmodule.grpc.GetStudentsRequest;
+import com.infnet.enrollmentmodule.grpc.StreamStudentsRequest;
+import com.infnet.enrollmentmodule.grpc.Student;
+import com.infnet.enrollmentmodule.grpc.StudentLookupServiceGrpc;
+import io.grpc.StatusRuntimeException;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StudentClient} over gRPC, used instead of the Feign client when {@code student-client.transport} is
+ * {@code grpc}. The channel ({@code grpc.client.student-service}) keeps one long-lived HTTP/2 connection per
+ * Student Service instance found through discovery and multiplexes all calls over it. gRPC statuses are turned
+ * into the exceptions the rest of the module already handles for Feign.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "student-client", name = "transport", havingValue = "grpc")
+public class GrpcStudentClient implements StudentClient {
+
+    private static final String CHANNEL = "student-service";
+
+    private final StudentLookupServiceGrpc.StudentLookupServiceBlockingStub stub;
+    private final long deadlineMillis;
+
+    public GrpcStudentClient(GrpcChannelFactory channelFactory, StudentClientProperties properties) {
+        this.stub = StudentLookupServiceGrpc.newBlockingStub(channelFactory.createChannel(CHANNEL));
+        this.deadlineMillis = properties.getGrpcDeadline().toMillis();
+    }
+
+    @Override
+    public StudentDTO getStudentById(Long id) {
+        try {
+            return convertToDTO(stub().getStudent(GetStudentRequest.newBuilder()
+                    .setId(id)
+                    .build()));
+        } catch (StatusRuntimeException ex) {
+            throw translate(ex);
+        }
+    }
+
+    @Override
+    public List<StudentDTO> getStudentsByIds(List<Long> ids) {
+        GetStudentsRequest request = GetStudentsRequest.newBuilder()
+                .addAllIds(ids.stream().filter(Objects::nonNull).toList())
+                .build();
+        try {
+            return stub().getStudents(request).getStudentsList().stream()
+                    .map(GrpcStudentClient::convertToDTO)
+                    .toList();
+        } catch (StatusRuntimeException ex) {
+            throw translate(ex);
+        }
+    }
+
+    @Override
+    public CursorPageResponseDTO<StudentDTO> getStudentsPage(Long cursor, int limit) {
+        // One more than asked tells whether there is a next page, as the REST endpoint does
+        StreamStudentsRequest request = StreamStudentsRequest.newBuilder()
+                .setAfterId(cursor != null ? cursor : 0L)
+                .setLimit(limit + 1)
+                .build();
+
+        List<StudentDTO> students = new ArrayList<>(limit + 1);
+        try {
+            stub().streamStudents(request).forEachRemaining(student -> students.add(convertToDTO(student)));
+        } catch (StatusRuntimeException ex) {
+            throw translate(ex);
+        }
+
+        boolean hasNext = students.size() > limit;
+        List<StudentDTO> items = hasNext ? students.subList(0, limit) : students;
+        Long next = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new CursorPageResponseDTO<>(items, next);
+    }
+
+    private StudentLookupServiceGrpc.StudentLookupServiceBlockingStub stub() {
+        // Deadlines are absolute, so every call needs a stub of its own
+        return stub.withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static RuntimeException translate(StatusRuntimeException ex) {
+        String description = ex.getStatus().getDescription();
+        return switch (ex.getStatus().getCode()) {
+            case NOT_FOUND -> new StudentNotFoundException(description != null ? description : "Student not found");
+            case INVALID_ARGUMENT -> new IllegalArgumentException(description, ex);
+            case DEADLINE_EXCEEDED -> new StudentServiceTimeoutException("Timed out waiting for Student Service");
+            default -> new StudentServiceFailureException(ex.getStatus().getCode()
+                    + (description != null ? ": " + description : ""), ex);
+        };
+    }
+
+    private static StudentDTO convertToDTO(Student student) {
+        return new StudentDTO(
+                student.getId(),
+                student.getName(),
+                student.getEmail(),
+                student.getCpf(),
+                student.getBirthDate().isEmpty() ? null : LocalDate.parse(student.getBirthDate()),
+                student.getActive()
+        );
+    }
+
+}
@@ -0,0 +1,330 @@
+package com.infnet.enrollmentmodule.client;
+
+import com.infnet.enrollmentmodule.config.StudentClientProperties;
+import com.infnet.enrollmentmodule.config.StudentClientResilienceProperties;
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceFailureException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceTimeoutException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceUnavailableException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Guards every call to Student Service: a semaphore bulkhead caps the threads that can wait on it, a circuit
+ * breaker fails fast while it is unhealthy, and transient failures of these read-only calls are retried with
+ * jittered exponential backoff while {@code student-client.call-timeout} leaves room for another attempt.
+ * Single-student lookups can additionally be hedged. Connect and read timeouts are
+ * the Feign client's own ({@code spring.cloud.openfeign.client.config.student-service}).
+ */
+@Component
+public class ResilientStudentClient {
+
+    private static final String INSTANCE = "student-service";
+
+    private final StudentClient studentClient;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final Duration retryBudget;
+    private final Duration retryAttemptCost;
+    private final Duration hedgeDelay;
+    private final ExecutorService hedgeExecutor;
+    private final Counter hedgedRequests;
+
+    public ResilientStudentClient(StudentClient studentClient, StudentClientProperties clientProperties,
+                                  StudentClientResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.studentClient = studentClient;
+
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getBulkheadMaxConcurrentCalls())
+                .maxWaitDuration(properties.getBulkheadMaxWait())
+                .build());
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .recordException(ResilientStudentClient::isServiceFailure)
+                .build());
+        RetryRegistry retries = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(properties.getRetryMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        properties.getRetryInitialBackoff(),
+                        properties.getRetryBackoffMultiplier(),
+                        properties.getRetryJitter()))
+                .retryOnException(ResilientStudentClient::isTransient)
+                .build());
+
+        this.bulkhead = bulkheads.bulkhead(INSTANCE);
+        this.circuitBreaker = circuitBreakers.circuitBreaker(INSTANCE);
+        this.retry = retries.retry(INSTANCE);
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+
+        this.hedgeDelay = properties.getHedgeDelay();
+        this.hedgeExecutor = hedgeDelay != null ? hedgeExecutor(properties.getBulkheadMaxConcurrentCalls()) : null;
+
+        // Retries stop once call-timeout no longer leaves room for one more attempt, its backoff and its hedge
+        this.retryBudget = clientProperties.getCallTimeout();
+        this.retryAttemptCost = properties.getRetryAttemptTimeout()
+                .plus(maxBackoff(properties))
+                .plus(hedgeDelay != null ? hedgeDelay : Duration.ZERO);
+        this.hedgedRequests = Counter.builder("student.client.hedged.requests")
+                .description("Single-student lookups that sent a hedged second request")
+                .register(meterRegistry);
+    }
+
+    public StudentDTO getStudentById(Long id) {
+        Supplier<StudentDTO> call = () -> studentClient.getStudentById(id);
+        return hedgeDelay != null ? guard(() -> hedged(call)) : execute(call);
+    }
+
+    public List<StudentDTO> getStudentsByIds(List<Long> ids) {
+        // A POST only because the id list can be long: it is a read, so retrying it is safe
+        return execute(() -> studentClient.getStudentsByIds(ids));
+    }
+
+    public CursorPageResponseDTO<StudentDTO> getStudentsPage(Long cursor, int limit) {
+        return execute(() -> studentClient.getStudentsPage(cursor, limit));
+    }
+
+    /**
+     * Whether a failure means Student Service could not answer, as opposed to answering with a client error.
+     */
+    public static boolean isServiceFailure(Throwable ex) {
+        return ex instanceof FeignException.FeignServerException
+                || ex instanceof RetryableException
+                || ex instanceof StudentServiceFailureException
+                || ex instanceof StudentServiceTimeoutException
+                || ex instanceof StudentServiceUnavailableException;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdownNow();
+        }
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        return guard(Bulkhead.decorateSupplier(bulkhead, call));
+    }
+
+    /**
+     * Applies the circuit breaker and the retry to a call that takes its own bulkhead permits.
+     */
+    private <T> T guard(Supplier<T> call) {
+        long deadline = System.nanoTime() + retryBudget.toNanos();
+        Supplier<T> attempt = CircuitBreaker.decorateSupplier(circuitBreaker, call);
+        Supplier<T> guarded = Retry.decorateSupplier(retry, () -> withinBudget(attempt, deadline));
+        try {
+            return guarded.get();
+        } catch (RetryBudgetExhaustedException ex) {
+            throw ex.getCause();
+        } catch (CallNotPermittedException ex) {
+            throw new StudentServiceUnavailableException("Student Service circuit is open", ex);
+        } catch (BulkheadFullException ex) {
+            throw new StudentServiceUnavailableException("Too many concurrent calls to Student Service", ex);
+        }
+    }
+
+    private <T> T withinBudget(Supplier<T> attempt, long deadline) {
+        try {
+            return attempt.get();
+        } catch (RuntimeException ex) {
+            // A retry that cannot finish before the caller gives up only holds a permit for nothing
+            if (isTransient(ex) && deadline - System.nanoTime() < retryAttemptCost.toNanos()) {
+                throw new RetryBudgetExhaustedException(ex);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Sends the call, and a second one if the first has not answered within the hedge delay, each under its own
+     * bulkhead permit. Without a permit to spare the first request is awaited alone. Whichever request loses is
+     * cancelled, which interrupts it; its permit and thread come back once it actually stops.
+     */
+    private <T> T hedged(Supplier<T> call) {
+        bulkhead.acquirePermission();
+        HedgeLeg<T> primary = new HedgeLeg<>(call);
+        try {
+            return primary.result.get(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException slow) {
+            if (!bulkhead.tryAcquirePermission()) {
+                return join(primary.result);
+            }
+            hedgedRequests.increment();
+            return firstSuccessful(primary, new HedgeLeg<>(call));
+        } catch (ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        } catch (InterruptedException ex) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new StudentServiceTimeoutException("Interrupted while waiting for Student Service");
+        }
+    }
+
+    private static <T> T firstSuccessful(HedgeLeg<T> primary, HedgeLeg<T> hedge) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (HedgeLeg<T> leg : List.of(primary, hedge)) {
+            leg.result.whenComplete((value, error) -> {
+                if (error == null) {
+                    winner.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+
+        try {
+            return join(winner);
+        } finally {
+            primary.cancel();
+            hedge.cancel();
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw unwrap(ex.getCause());
+        }
+    }
+
+    /**
+     * Every leg holds a bulkhead permit while it runs, so the executor never needs more threads than there are
+     * permits and its queue only holds tasks waiting for a thread that is finishing.
+     */
+    private static ExecutorService hedgeExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("student-hedge-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static Duration maxBackoff(StudentClientResilienceProperties properties) {
+        double backoff = properties.getRetryInitialBackoff().toMillis()
+                * Math.pow(properties.getRetryBackoffMultiplier(), Math.max(0, properties.getRetryMaxAttempts() - 2))
+                * (1 + properties.getRetryJitter());
+        return Duration.ofMillis((long) Math.ceil(backoff));
+    }
+
+    private static boolean isTransient(Throwable ex) {
+        return ex instanceof FeignException.FeignServerException
+                || ex instanceof RetryableException
+                || ex instanceof StudentServiceFailureException
+                || ex instanceof StudentServiceTimeoutException;
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * One request of a hedged lookup, running on the hedge executor under a bulkhead permit taken by the caller.
+     */
+    private final class HedgeLeg<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final Future<?> task;
+
+        private HedgeLeg(Supplier<T> call) {
+            try {
+                this.task = hedgeExecutor.submit(() -> {
+                    started.set(true);
+                    try {
+                        result.complete(call.get());
+                    } catch (RuntimeException ex) {
+                        result.completeExceptionally(ex);
+                    } finally {
+                        release();
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                release();
+                throw ex;
+            }
+        }
+
+        private void cancel() {
+            // A request cancelled before it started never runs the finally that gives its permit back
+            if (task.cancel(true) && !started.get()) {
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.onComplete();
+            }
+        }
+
+    }
+
+    private static final class RetryBudgetExhaustedException extends RuntimeException {
+
+        private RetryBudgetExhaustedException(RuntimeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+
+    }
+
+}
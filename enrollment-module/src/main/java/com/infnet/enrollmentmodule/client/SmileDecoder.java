@@ -0,0 +1,52 @@
+package com.infnet.enrollmentmodule.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Reads Smile responses directly and hands any other content type, such as JSON from an older Student Service,
+ * to the regular decoder.
+ */
+class SmileDecoder implements Decoder {
+
+    private final ObjectMapper smileMapper;
+    private final Decoder fallback;
+
+    SmileDecoder(ObjectMapper smileMapper, Decoder fallback) {
+        this.smileMapper = smileMapper;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (!isSmile(response)) {
+            return fallback.decode(response, type);
+        }
+        if (response.body() == null) {
+            return Util.emptyValueOf(type);
+        }
+
+        try (InputStream body = response.body().asInputStream()) {
+            return smileMapper.readValue(body, smileMapper.constructType(type));
+        }
+    }
+
+    private static boolean isSmile(Response response) {
+        Collection<String> contentTypes = response.headers().get(HttpHeaders.CONTENT_TYPE);
+        if (contentTypes == null || contentTypes.isEmpty()) {
+            return false;
+        }
+        return StudentClientConfiguration.SMILE_MEDIA_TYPE
+                .isCompatibleWith(MediaType.parseMediaType(contentTypes.iterator().next()));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.infnet.enrollmentmodule.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import org.springframework.http.HttpHeaders;
+
+import java.lang.reflect.Type;
+
+/**
+ * Writes request bodies as Smile.
+ */
+class SmileEncoder implements Encoder {
+
+    private final ObjectMapper smileMapper;
+
+    SmileEncoder(ObjectMapper smileMapper) {
+        this.smileMapper = smileMapper;
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) {
+        try {
+            template.body(smileMapper.writerFor(smileMapper.constructType(bodyType)).writeValueAsBytes(object), null);
+        } catch (JsonProcessingException ex) {
+            throw new EncodeException("Could not write request body as Smile", ex);
+        }
+        template.removeHeader(HttpHeaders.CONTENT_TYPE);
+        template.header(HttpHeaders.CONTENT_TYPE, StudentClientConfiguration.SMILE_MEDIA_TYPE.toString());
+    }
+
+}
@@ -1,14 +1,26 @@
 package com.infnet.enrollmentmodule.client;
 
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
 import com.infnet.enrollmentmodule.dto.StudentDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "student-service")
+import java.util.List;
+
+@FeignClient(name = "student-service", configuration = StudentClientConfiguration.class)
 public interface StudentClient {
 
     @GetMapping("/students/{id}")
     StudentDTO getStudentById(@PathVariable("id") Long id);
 
-}
\ No newline at end of file
+    @PostMapping("/students/batch")
+    List<StudentDTO> getStudentsByIds(@RequestBody List<Long> ids);
+
+    @GetMapping("/students/page")
+    CursorPageResponseDTO<StudentDTO> getStudentsPage(@RequestParam("cursor") Long cursor, @RequestParam("limit") int limit);
+
+}
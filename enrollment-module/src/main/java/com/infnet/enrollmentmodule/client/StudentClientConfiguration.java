@@ -0,0 +1,62 @@
+package com.infnet.enrollmentmodule.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.infnet.enrollmentmodule.config.StudentClientProperties;
+import com.infnet.enrollmentmodule.config.StudentClientProperties.WireFormat;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Feign configuration of {@link StudentClient} only, so it is deliberately not a {@code @Configuration}. With
+ * {@code student-client.wire-format: smile} requests are sent as Smile and Smile is preferred for responses, with
+ * JSON still accepted so an older Student Service keeps working during a rollout.
+ */
+public class StudentClientConfiguration {
+
+    static final MediaType SMILE_MEDIA_TYPE = new MediaType("application", "x-jackson-smile");
+
+    private static final String SMILE_FIRST = SMILE_MEDIA_TYPE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
+    @Bean
+    public Decoder studentClientDecoder(Jackson2ObjectMapperBuilder objectMapperBuilder,
+                                        ObjectFactory<HttpMessageConverters> messageConverters,
+                                        ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        return new OptionalDecoder(new ResponseEntityDecoder(new SmileDecoder(smileMapper(objectMapperBuilder),
+                new SpringDecoder(messageConverters, customizers))));
+    }
+
+    @Bean
+    public Encoder studentClientEncoder(StudentClientProperties properties,
+                                        Jackson2ObjectMapperBuilder objectMapperBuilder,
+                                        ObjectFactory<HttpMessageConverters> messageConverters) {
+        if (properties.getWireFormat() == WireFormat.SMILE) {
+            return new SmileEncoder(smileMapper(objectMapperBuilder));
+        }
+        return new SpringEncoder(messageConverters);
+    }
+
+    @Bean
+    public RequestInterceptor studentClientAcceptHeader(StudentClientProperties properties) {
+        String accept = properties.getWireFormat() == WireFormat.SMILE ? SMILE_FIRST : MediaType.APPLICATION_JSON_VALUE;
+        return template -> template.header(HttpHeaders.ACCEPT, accept);
+    }
+
+    private static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return objectMapperBuilder.factory(new SmileFactory()).build();
+    }
+
+}
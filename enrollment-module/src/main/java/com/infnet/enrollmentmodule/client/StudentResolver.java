@@ -0,0 +1,189 @@
+package com.infnet.enrollmentmodule.client;
+
+import com.infnet.enrollmentmodule.config.StudentClientProperties;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceTimeoutException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceUnavailableException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@Slf4j
+@Timed(value = "student.resolver", percentiles = {0.5, 0.95, 0.99}, histogram = true)
+public class StudentResolver {
+
+    private final ResilientStudentClient studentClient;
+    private final StudentClientProperties properties;
+    private final AsyncTaskExecutor executor;
+    private final Semaphore lookupPermits;
+
+    public StudentResolver(ResilientStudentClient studentClient, StudentClientProperties properties, Environment environment) {
+        this.studentClient = studentClient;
+        this.properties = properties;
+        this.executor = createExecutor(properties, environment);
+        this.lookupPermits = new Semaphore(properties.getMaxConcurrency());
+    }
+
+    public StudentDTO resolve(Long id) {
+        return studentClient.getStudentById(id);
+    }
+
+    public Map<Long, StudentDTO> resolveAll(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (distinctIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        List<List<Long>> chunks = partition(distinctIds, properties.getBatchSize());
+        Map<Long, StudentDTO> students = new HashMap<>(distinctIds.size());
+
+        if (chunks.size() == 1) {
+            studentClient.getStudentsByIds(chunks.get(0))
+                    .forEach(student -> students.put(student.getId(), student));
+        } else {
+            fetchConcurrently(chunks).forEach(student -> students.put(student.getId(), student));
+        }
+
+        log.debug("Resolved {} of {} students in {} batch calls", students.size(), distinctIds.size(), chunks.size());
+
+        Map<Long, StudentDTO> ordered = new LinkedHashMap<>(students.size());
+        distinctIds.stream()
+                .filter(students::containsKey)
+                .forEach(id -> ordered.put(id, students.get(id)));
+        return ordered;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor virtualThreads) {
+            virtualThreads.close();
+        }
+    }
+
+    /**
+     * Runs the batch calls on the lookup executor. Every call holds one of the executor's {@code maxConcurrency}
+     * permits, taken without waiting: once they are all in use the request fails fast instead of running the call
+     * on its own thread, where neither the call timeout nor the concurrency limit would apply.
+     */
+    private List<StudentDTO> fetchConcurrently(List<List<Long>> chunks) {
+        long timeoutMillis = properties.getCallTimeout().toMillis();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Semaphore permits = new Semaphore(properties.getMaxConcurrencyPerRequest());
+        List<CompletableFuture<List<StudentDTO>>> calls = new ArrayList<>(chunks.size());
+
+        for (List<Long> chunk : chunks) {
+            acquire(permits, deadline);
+            if (!lookupPermits.tryAcquire()) {
+                permits.release();
+                throw new StudentServiceUnavailableException("Too many concurrent Student Service lookups", null);
+            }
+            CompletableFuture<List<StudentDTO>> call;
+            try {
+                call = CompletableFuture.supplyAsync(() -> studentClient.getStudentsByIds(chunk), executor);
+            } catch (RejectedExecutionException ex) {
+                lookupPermits.release();
+                permits.release();
+                throw new StudentServiceUnavailableException("Too many concurrent Student Service lookups", ex);
+            }
+            call.whenComplete((result, error) -> {
+                lookupPermits.release();
+                permits.release();
+            });
+            calls.add(call.copy().orTimeout(remainingMillis(deadline), TimeUnit.MILLISECONDS));
+        }
+
+        List<StudentDTO> students = new ArrayList<>();
+        for (CompletableFuture<List<StudentDTO>> call : calls) {
+            try {
+                students.addAll(call.join());
+            } catch (CompletionException ex) {
+                throw unwrap(ex);
+            }
+        }
+        return students;
+    }
+
+    private void acquire(Semaphore permits, long deadline) {
+        try {
+            if (!permits.tryAcquire(remainingMillis(deadline), TimeUnit.MILLISECONDS)) {
+                throw new StudentServiceTimeoutException("Timed out waiting for Student Service");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new StudentServiceTimeoutException("Interrupted while waiting for Student Service");
+        }
+    }
+
+    private static long remainingMillis(long deadline) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    private RuntimeException unwrap(CompletionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof TimeoutException) {
+            return new StudentServiceTimeoutException("Timed out waiting for Student Service");
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return ex;
+    }
+
+    private static List<List<Long>> partition(List<Long> ids, int size) {
+        List<List<Long>> chunks = new ArrayList<>((ids.size() + size - 1) / size);
+        for (int from = 0; from < ids.size(); from += size) {
+            chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * The lookup permits already cap the calls in flight, so neither executor throttles on its own. Closing the
+     * virtual-thread executor waits up to the call timeout for lookups still running.
+     */
+    private static AsyncTaskExecutor createExecutor(StudentClientProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("student-lookup-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(properties.getCallTimeout().toMillis());
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxConcurrency());
+        executor.setMaxPoolSize(properties.getMaxConcurrency());
+        // Room for calls whose permit is back while their thread is still finishing the previous one
+        executor.setQueueCapacity(properties.getMaxConcurrency());
+        executor.setThreadNamePrefix("student-lookup-");
+        executor.initialize();
+        return executor;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.infnet.enrollmentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "course-capacity")
+public class CourseCapacityProperties {
+
+    /**
+     * Number of counter rows the seats of a new course are spread over.
+     */
+    private int stripes = 16;
+
+}
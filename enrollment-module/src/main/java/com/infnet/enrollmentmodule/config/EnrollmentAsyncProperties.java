@@ -0,0 +1,24 @@
+package com.infnet.enrollmentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "enrollment-async")
+public class EnrollmentAsyncProperties {
+
+    private int queueCapacity = 10_000;
+
+    private int batchSize = 500;
+
+    /**
+     * Flushes a batch may fail to be written before its operations are written one by one, rejecting those that
+     * still fail, instead of holding up the queue behind it.
+     */
+    private int maxWriteAttempts = 3;
+
+    private Duration retention = Duration.ofDays(7);
+
+}
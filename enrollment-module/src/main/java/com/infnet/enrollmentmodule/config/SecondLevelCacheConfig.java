@@ -0,0 +1,66 @@
+package com.infnet.enrollmentmodule.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Builds the in-process JCache (Caffeine) regions used by the Hibernate second-level cache and
+ * hands the manager to Hibernate, so eviction is driven by {@link SecondLevelCacheProperties}
+ * instead of provider defaults.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String ENROLLMENT_REGION = "enrollments";
+    public static final String ENROLLMENT_QUERY_REGION = "enrollment-queries";
+    public static final String COURSE_REGION = "courses";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties,
+                                                @Value("${spring.application.name}") String applicationName) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create(applicationName + "-second-level-cache"), getClass().getClassLoader());
+
+        createRegion(cacheManager, ENROLLMENT_REGION, properties.getEntityMaximumSize(), properties.getEntityTtl());
+        createRegion(cacheManager, ENROLLMENT_QUERY_REGION, properties.getQueryMaximumSize(), properties.getQueryTtl());
+        createRegion(cacheManager, COURSE_REGION, properties.getEntityMaximumSize(), properties.getEntityTtl());
+        // Update timestamps must outlive every cached query result, so this region is never evicted
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, Long maximumSize, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maximumSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.infnet.enrollmentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Each instance caches on its own and nothing evicts what other instances change, so this is also the longest
+     * an enrollment or course read here can lag a write made elsewhere.
+     */
+    private Duration entityTtl = Duration.ofSeconds(30);
+
+    private long entityMaximumSize = 10_000;
+
+    private Duration queryTtl = Duration.ofSeconds(10);
+
+    private long queryMaximumSize = 1_000;
+
+}
@@ -0,0 +1,21 @@
+package com.infnet.enrollmentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "student-cache")
+public class StudentCacheProperties {
+
+    private Duration ttl = Duration.ofMinutes(5);
+
+    private long maximumSize = 10_000;
+
+    /**
+     * How long the last successfully fetched copy of a student may still be served while Student Service is down.
+     */
+    private Duration staleTtl = Duration.ofHours(24);
+
+}
@@ -0,0 +1,36 @@
+package com.infnet.enrollmentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "student-client")
+public class StudentClientProperties {
+
+    private int batchSize = 500;
+
+    private int maxConcurrency = 32;
+
+    private int maxConcurrencyPerRequest = 4;
+
+    private Duration callTimeout = Duration.ofSeconds(5);
+
+    private WireFormat wireFormat = WireFormat.SMILE;
+
+    private Transport transport = Transport.HTTP;
+
+    private Duration grpcDeadline = Duration.ofSeconds(2);
+
+    public enum WireFormat {
+        JSON,
+        SMILE
+    }
+
+    public enum Transport {
+        HTTP,
+        GRPC
+    }
+
+}
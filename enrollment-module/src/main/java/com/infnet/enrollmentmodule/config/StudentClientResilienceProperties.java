@@ -0,0 +1,47 @@
+package com.infnet.enrollmentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "student-client.resilience")
+public class StudentClientResilienceProperties {
+
+    private int bulkheadMaxConcurrentCalls = 64;
+
+    private Duration bulkheadMaxWait = Duration.ofMillis(10);
+
+    private float failureRateThreshold = 50;
+
+    private float slowCallRateThreshold = 80;
+
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+    private int slidingWindowSize = 50;
+
+    private int minimumNumberOfCalls = 20;
+
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+    private int retryMaxAttempts = 3;
+
+    private Duration retryInitialBackoff = Duration.ofMillis(100);
+
+    private double retryBackoffMultiplier = 2.0;
+
+    private double retryJitter = 0.5;
+
+    /**
+     * Longest a single attempt can take (the Feign connect plus read timeout). A retry is only made while
+     * {@code student-client.call-timeout} still leaves room for one more attempt and its backoff.
+     */
+    private Duration retryAttemptTimeout = Duration.ofSeconds(3);
+
+    /**
+     * Delay after which a second, hedged request is sent for a single-student lookup. Hedging is off when unset.
+     */
+    private Duration hedgeDelay;
+
+}
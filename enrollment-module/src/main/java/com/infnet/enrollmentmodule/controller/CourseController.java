@@ -0,0 +1,46 @@
+package com.infnet.enrollmentmodule.controller;
+
+import com.infnet.enrollmentmodule.dto.CourseRequestDTO;
+import com.infnet.enrollmentmodule.dto.CourseResponseDTO;
+import com.infnet.enrollmentmodule.service.CourseService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/courses")
+@Timed(value = "course.controller", percentiles = {0.5, 0.95, 0.99}, histogram = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CourseController {
+
+    private final CourseService courseService;
+
+    @PostMapping
+    public ResponseEntity<CourseResponseDTO> createCourse(@Valid @RequestBody CourseRequestDTO requestDTO) {
+        log.info("POST /courses - Creating course");
+        CourseResponseDTO response = courseService.createCourse(requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CourseResponseDTO> getCourseById(@PathVariable Long id) {
+        log.info("GET /courses/{} - Fetching course", id);
+        CourseResponseDTO response = courseService.getCourseById(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CourseResponseDTO>> getAllCourses() {
+        log.info("GET /courses - Fetching all courses");
+        List<CourseResponseDTO> response = courseService.getAllCourses();
+        return ResponseEntity.ok(response);
+    }
+
+}
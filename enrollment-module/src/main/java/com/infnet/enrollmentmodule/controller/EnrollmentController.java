@@ -1,24 +1,42 @@
 package com.infnet.enrollmentmodule.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentOperationDTO;
 import com.infnet.enrollmentmodule.dto.EnrollmentRequestDTO;
 import com.infnet.enrollmentmodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentSearchDTO;
+import com.infnet.enrollmentmodule.service.AsyncEnrollmentService;
 import com.infnet.enrollmentmodule.service.EnrollmentService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/enrollments")
+@Timed(value = "enrollment.controller", percentiles = {0.5, 0.95, 0.99}, histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class EnrollmentController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final EnrollmentService enrollmentService;
+    private final AsyncEnrollmentService asyncEnrollmentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<EnrollmentResponseDTO> createEnrollment(@Valid @RequestBody EnrollmentRequestDTO requestDTO) {
@@ -27,6 +45,27 @@ public class EnrollmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/async")
+    public ResponseEntity<EnrollmentOperationDTO> createEnrollmentAsync(
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Valid @RequestBody EnrollmentRequestDTO requestDTO) {
+        log.info("POST /enrollments/async - Accepting enrollment");
+        EnrollmentOperationDTO response = asyncEnrollmentService.submit(idempotencyKey, requestDTO);
+        return ResponseEntity.accepted()
+                .location(URI.create("/enrollments/operations/" + response.getOperationId()))
+                .body(response);
+    }
+
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<EnrollmentOperationDTO> getEnrollmentOperation(@PathVariable String operationId) {
+        log.info("GET /enrollments/operations/{} - Fetching enrollment operation", operationId);
+        EnrollmentOperationDTO response = asyncEnrollmentService.getOperation(operationId);
+        // Status changes while clients poll, so shared caches such as the gateway must not keep it
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EnrollmentResponseDTO> getEnrollmentById(@PathVariable Long id) {
         log.info("GET /enrollments/{} - Fetching enrollment", id);
@@ -35,12 +74,43 @@ public class EnrollmentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<EnrollmentResponseDTO>> getAllEnrollments() {
-        log.info("GET /enrollments - Fetching all enrollments");
-        List<EnrollmentResponseDTO> response = enrollmentService.getAllEnrollments();
+    public ResponseEntity<List<?>> getAllEnrollments(@Valid EnrollmentSearchDTO criteria) {
+        if (criteria.isUnrestricted()) {
+            log.info("GET /enrollments - Fetching all enrollments");
+            List<EnrollmentResponseDTO> response = enrollmentService.getAllEnrollments();
+            return ResponseEntity.ok(response);
+        }
+
+        log.info("GET /enrollments - Searching enrollments");
+        List<Map<String, Object>> response = enrollmentService.searchEnrollments(criteria);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponseDTO<EnrollmentResponseDTO>> getEnrollmentsPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /enrollments/page - Fetching enrollments after cursor {}", cursor);
+        CursorPageResponseDTO<EnrollmentResponseDTO> response = enrollmentService.getEnrollmentsPage(cursor, limit);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEnrollments() {
+        log.info("GET /enrollments/stream - Streaming all enrollments");
+        StreamingResponseBody body = outputStream -> enrollmentService.streamAllEnrollments(enrollment -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(enrollment));
+                outputStream.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<EnrollmentResponseDTO>> getEnrollmentsByStudentId(@PathVariable Long studentId) {
         log.info("GET /enrollments/student/{} - Fetching enrollments for student", studentId);
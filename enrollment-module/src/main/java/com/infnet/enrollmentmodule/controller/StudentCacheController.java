@@ -0,0 +1,45 @@
+package com.infnet.enrollmentmodule.controller;
+
+import com.infnet.enrollmentmodule.cache.StudentCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/internal/student-cache")
+@RequiredArgsConstructor
+@Slf4j
+public class StudentCacheController {
+
+    private final StudentCache studentCache;
+
+    @DeleteMapping("/{studentId}")
+    public ResponseEntity<Void> invalidateStudent(@PathVariable Long studentId) {
+        log.info("DELETE /internal/student-cache/{} - Invalidating cached student", studentId);
+        studentCache.invalidate(studentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/invalidations")
+    public ResponseEntity<Void> invalidateStudents(@RequestBody List<Long> studentIds) {
+        log.info("POST /internal/student-cache/invalidations - Invalidating {} cached students", studentIds.size());
+        studentCache.invalidateAll(studentIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> invalidateAll() {
+        log.info("DELETE /internal/student-cache - Invalidating all cached students");
+        studentCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+}
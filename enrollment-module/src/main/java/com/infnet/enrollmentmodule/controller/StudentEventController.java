@@ -0,0 +1,30 @@
+package com.infnet.enrollmentmodule.controller;
+
+import com.infnet.enrollmentmodule.dto.StudentEventDTO;
+import com.infnet.enrollmentmodule.service.StudentProjectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/internal/student-events")
+@RequiredArgsConstructor
+@Slf4j
+public class StudentEventController {
+
+    private final StudentProjectionService projectionService;
+
+    @PostMapping
+    public ResponseEntity<Void> receiveStudentEvents(@RequestBody List<StudentEventDTO> events) {
+        log.info("POST /internal/student-events - Receiving {} student events", events.size());
+        projectionService.applyEvents(events);
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.infnet.enrollmentmodule.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseRequestDTO {
+
+    @NotBlank(message = "Course name is required")
+    @Size(min = 3, max = 100, message = "Course name must be between 3 and 100 characters")
+    private String name;
+
+    @NotNull(message = "Capacity is required")
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity;
+
+}
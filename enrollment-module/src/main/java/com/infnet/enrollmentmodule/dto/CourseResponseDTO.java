@@ -0,0 +1,18 @@
+package com.infnet.enrollmentmodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseResponseDTO {
+
+    private Long id;
+    private String name;
+    private Integer capacity;
+    private Long reservedSeats;
+    private Long availableSeats;
+
+}
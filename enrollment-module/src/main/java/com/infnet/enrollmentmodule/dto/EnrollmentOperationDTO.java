@@ -0,0 +1,22 @@
+package com.infnet.enrollmentmodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentOperationDTO {
+
+    private String operationId;
+    private String idempotencyKey;
+    private String status;
+    private Long enrollmentId;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+}
@@ -0,0 +1,51 @@
+package com.infnet.enrollmentmodule.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentSearchDTO {
+
+    private String status;
+
+    private Long studentId;
+
+    /**
+     * Matches course names starting with this value.
+     */
+    private String courseName;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate enrolledFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate enrolledTo;
+
+    /**
+     * Comma-separated properties, descending when prefixed with {@code -}, e.g. {@code -enrollmentDate,courseName}.
+     */
+    private String sort;
+
+    /**
+     * Comma-separated properties to return, e.g. {@code id,status}. All properties when unset.
+     */
+    private String fields;
+
+    @Min(value = 1, message = "Limit must be between 1 and 1000")
+    @Max(value = 1000, message = "Limit must be between 1 and 1000")
+    private Integer limit;
+
+    public boolean isUnrestricted() {
+        return status == null && studentId == null && courseName == null && enrolledFrom == null
+                && enrolledTo == null && sort == null && fields == null && limit == null;
+    }
+
+}
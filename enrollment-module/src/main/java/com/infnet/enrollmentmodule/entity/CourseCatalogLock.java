@@ -0,0 +1,22 @@
+package com.infnet.enrollmentmodule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single row locked to order course creation against enrollments in courses that do not exist yet: those have
+ * no seat stripe to lock.
+ */
+@Entity
+@Table(name = "course_catalog_lock")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseCatalogLock {
+
+    @Id
+    private Integer id;
+
+}
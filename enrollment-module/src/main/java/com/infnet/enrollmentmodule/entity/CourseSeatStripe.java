@@ -0,0 +1,37 @@
+package com.infnet.enrollmentmodule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One slice of a course's seats. Reservations pick a stripe at random and claim a seat with a conditional update,
+ * so concurrent enrollments in the same course mostly lock different rows.
+ */
+@Entity
+@Table(name = "course_seat_stripes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_course_seat_stripes_course_stripe", columnNames = {"course_id", "stripe"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSeatStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seat_stripes_seq")
+    @SequenceGenerator(name = "course_seat_stripes_seq", sequenceName = "course_seat_stripes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false)
+    private Integer stripe;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @Column(nullable = false)
+    private Integer reserved;
+
+}
@@ -1,21 +1,31 @@
 package com.infnet.enrollmentmodule.entity;
 
+import com.infnet.enrollmentmodule.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "enrollments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ENROLLMENT_REGION)
+@Table(name = "enrollments", indexes = {
+        @Index(name = "idx_enrollments_student_id", columnList = "student_id"),
+        @Index(name = "idx_enrollments_status", columnList = "status"),
+        @Index(name = "idx_enrollments_course_name", columnList = "course_name")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Enrollment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollments_seq")
+    @SequenceGenerator(name = "enrollments_seq", sequenceName = "enrollments_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "student_id", nullable = false)
@@ -30,4 +40,7 @@ public class Enrollment {
     @Column(nullable = false, length = 20)
     private String status = "ACTIVE";
 
+    @Version
+    private Long version;
+
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.infnet.enrollmentmodule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "enrollment_operations", indexes = @Index(name = "idx_enrollment_operations_completed_at", columnList = "completed_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentOperation {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "course_name", nullable = false, length = 100)
+    private String courseName;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "enrollment_id")
+    private Long enrollmentId;
+
+    @Column(length = 255)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+}
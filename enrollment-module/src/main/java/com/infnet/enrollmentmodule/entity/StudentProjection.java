@@ -0,0 +1,35 @@
+package com.infnet.enrollmentmodule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "student_projection")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentProjection {
+
+    @Id
+    private Long id;
+
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private Boolean active = true;
+
+    @Column(nullable = false)
+    private Boolean deleted = false;
+
+    @Column(name = "last_change_version", nullable = false)
+    private Long lastChangeVersion;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,9 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+public class CourseFullException extends RuntimeException {
+
+    public CourseFullException(String message) {
+        super(message);
+    }
+
+}
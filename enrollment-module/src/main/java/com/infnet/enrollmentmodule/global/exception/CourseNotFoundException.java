@@ -0,0 +1,9 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+public class CourseNotFoundException extends RuntimeException {
+
+    public CourseNotFoundException(String message) {
+        super(message);
+    }
+
+}
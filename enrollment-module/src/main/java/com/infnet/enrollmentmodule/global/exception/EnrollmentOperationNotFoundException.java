@@ -0,0 +1,9 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+public class EnrollmentOperationNotFoundException extends RuntimeException {
+
+    public EnrollmentOperationNotFoundException(String message) {
+        super(message);
+    }
+
+}
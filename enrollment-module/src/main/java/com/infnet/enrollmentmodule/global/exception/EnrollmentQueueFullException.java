@@ -0,0 +1,9 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+public class EnrollmentQueueFullException extends RuntimeException {
+
+    public EnrollmentQueueFullException(String message) {
+        super(message);
+    }
+
+}
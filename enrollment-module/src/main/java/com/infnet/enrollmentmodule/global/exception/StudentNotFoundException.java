@@ -0,0 +1,9 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+public class StudentNotFoundException extends RuntimeException {
+
+    public StudentNotFoundException(String message) {
+        super(message);
+    }
+
+}
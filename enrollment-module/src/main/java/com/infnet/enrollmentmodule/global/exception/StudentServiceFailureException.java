@@ -0,0 +1,13 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+/**
+ * Student Service could not answer a call made over a transport other than Feign, the counterpart of a
+ * {@code FeignException.FeignServerException}.
+ */
+public class StudentServiceFailureException extends RuntimeException {
+
+    public StudentServiceFailureException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
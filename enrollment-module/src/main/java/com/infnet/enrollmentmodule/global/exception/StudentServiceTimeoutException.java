@@ -0,0 +1,9 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+public class StudentServiceTimeoutException extends RuntimeException {
+
+    public StudentServiceTimeoutException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.infnet.enrollmentmodule.global.exception;
+
+public class StudentServiceUnavailableException extends RuntimeException {
+
+    public StudentServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
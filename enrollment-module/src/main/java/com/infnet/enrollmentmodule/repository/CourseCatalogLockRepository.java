@@ -0,0 +1,28 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.entity.CourseCatalogLock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CourseCatalogLockRepository extends JpaRepository<CourseCatalogLock, Integer> {
+
+    /**
+     * Shared lock: enrollments in uncapped courses do not block each other, only course creation. H2 has no
+     * shared row locks, so there they serialize.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select l from CourseCatalogLock l where l.id = :id")
+    Optional<CourseCatalogLock> lockShared(@Param("id") Integer id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from CourseCatalogLock l where l.id = :id")
+    Optional<CourseCatalogLock> lockExclusive(@Param("id") Integer id);
+
+}
@@ -0,0 +1,17 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.entity.Course;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CourseRepository extends JpaRepository<Course, Long> {
+
+    // Not query-cached: an instance that cached "no such course" would keep reserving a new course's seats uncapped
+    Optional<Course> findByName(String name);
+
+    boolean existsByName(String name);
+
+}
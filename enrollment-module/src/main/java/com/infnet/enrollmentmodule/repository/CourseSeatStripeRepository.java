@@ -0,0 +1,32 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.entity.CourseSeatStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CourseSeatStripeRepository extends JpaRepository<CourseSeatStripe, Long> {
+
+    @Modifying
+    @Query("update CourseSeatStripe s set s.reserved = s.reserved + 1 " +
+            "where s.courseId = :courseId and s.stripe = :stripe and s.reserved < s.capacity")
+    int tryReserve(@Param("courseId") Long courseId, @Param("stripe") int stripe);
+
+    @Modifying
+    @Query("update CourseSeatStripe s set s.reserved = s.reserved - 1 " +
+            "where s.courseId = :courseId and s.stripe = :stripe and s.reserved > 0")
+    int tryRelease(@Param("courseId") Long courseId, @Param("stripe") int stripe);
+
+    @Query("select coalesce(sum(s.reserved), 0) from CourseSeatStripe s where s.courseId = :courseId")
+    long sumReserved(@Param("courseId") Long courseId);
+
+    @Query("select s.courseId, sum(s.reserved) from CourseSeatStripe s where s.courseId in :courseIds group by s.courseId")
+    List<Object[]> sumReservedByCourse(@Param("courseIds") Collection<Long> courseIds);
+
+}
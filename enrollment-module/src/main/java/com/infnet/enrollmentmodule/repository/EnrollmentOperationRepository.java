@@ -0,0 +1,27 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.entity.EnrollmentOperation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public interface EnrollmentOperationRepository extends JpaRepository<EnrollmentOperation, String> {
+
+    Optional<EnrollmentOperation> findByIdempotencyKey(String idempotencyKey);
+
+    @Query("select o.idempotencyKey from EnrollmentOperation o where o.idempotencyKey in :keys")
+    Set<String> findExistingKeys(@Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Query("delete from EnrollmentOperation o where o.completedAt < :before")
+    int deleteCompletedBefore(@Param("before") LocalDateTime before);
+
+}
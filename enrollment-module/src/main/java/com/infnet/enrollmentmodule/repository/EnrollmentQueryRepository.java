@@ -0,0 +1,17 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.entity.Enrollment;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface EnrollmentQueryRepository {
+
+    /**
+     * Selects only the given properties of the matching enrollments, each aliased by its property name.
+     */
+    List<Tuple> findFields(Specification<Enrollment> specification, List<String> fields, Sort sort, int limit);
+
+}
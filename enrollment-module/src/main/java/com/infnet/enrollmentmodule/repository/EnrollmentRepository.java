@@ -1,16 +1,50 @@
 package com.infnet.enrollmentmodule.repository;
 
+import com.infnet.enrollmentmodule.config.SecondLevelCacheConfig;
 import com.infnet.enrollmentmodule.entity.Enrollment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>, JpaSpecificationExecutor<Enrollment>,
+        EnrollmentQueryRepository {
 
+    String SELECT_WITH_STUDENT = "select new com.infnet.enrollmentmodule.repository.EnrollmentWithStudent(e, p) " +
+            "from Enrollment e left join StudentProjection p on p.id = e.studentId ";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.ENROLLMENT_QUERY_REGION)
+    })
     List<Enrollment> findByStudentId(Long studentId);
 
     List<Enrollment> findByStatus(String status);
 
-}
\ No newline at end of file
+    @Query(SELECT_WITH_STUDENT + "where e.id = :id")
+    Optional<EnrollmentWithStudent> findWithStudentById(@Param("id") Long id);
+
+    @Query(SELECT_WITH_STUDENT + "order by e.id")
+    List<EnrollmentWithStudent> findAllWithStudent();
+
+    @Query(SELECT_WITH_STUDENT + "where e.id > :cursor order by e.id")
+    List<EnrollmentWithStudent> findWithStudentByIdGreaterThan(@Param("cursor") Long cursor, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_WITH_STUDENT + "order by e.id")
+    Stream<EnrollmentWithStudent> streamAllWithStudent();
+
+}
@@ -0,0 +1,67 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.dto.EnrollmentSearchDTO;
+import com.infnet.enrollmentmodule.entity.Enrollment;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public final class EnrollmentSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private EnrollmentSpecifications() {
+    }
+
+    public static Specification<Enrollment> matching(EnrollmentSearchDTO criteria) {
+        Specification<Enrollment> specification = Specification.where(null);
+
+        if (criteria.getStatus() != null) {
+            specification = specification.and(hasStatus(criteria.getStatus()));
+        }
+        if (criteria.getStudentId() != null) {
+            specification = specification.and(hasStudentId(criteria.getStudentId()));
+        }
+        if (criteria.getCourseName() != null) {
+            specification = specification.and(courseNameStartsWith(criteria.getCourseName()));
+        }
+        if (criteria.getEnrolledFrom() != null) {
+            specification = specification.and(enrolledOnOrAfter(criteria.getEnrolledFrom()));
+        }
+        if (criteria.getEnrolledTo() != null) {
+            specification = specification.and(enrolledOnOrBefore(criteria.getEnrolledTo()));
+        }
+
+        return specification;
+    }
+
+    public static Specification<Enrollment> hasStatus(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status.toUpperCase());
+    }
+
+    public static Specification<Enrollment> hasStudentId(Long studentId) {
+        return (root, query, cb) -> cb.equal(root.get("studentId"), studentId);
+    }
+
+    public static Specification<Enrollment> hasCourseName(String courseName) {
+        return (root, query, cb) -> cb.equal(root.get("courseName"), courseName);
+    }
+
+    public static Specification<Enrollment> courseNameStartsWith(String prefix) {
+        // A prefix pattern keeps the course_name index usable
+        String pattern = prefix
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("courseName"), pattern, LIKE_ESCAPE);
+    }
+
+    public static Specification<Enrollment> enrolledOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("enrollmentDate"), date);
+    }
+
+    public static Specification<Enrollment> enrolledOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("enrollmentDate"), date);
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.entity.Enrollment;
+import com.infnet.enrollmentmodule.entity.StudentProjection;
+
+public record EnrollmentWithStudent(Enrollment enrollment, StudentProjection student) {}
@@ -0,0 +1,10 @@
+package com.infnet.enrollmentmodule.repository;
+
+import com.infnet.enrollmentmodule.entity.StudentProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StudentProjectionRepository extends JpaRepository<StudentProjection, Long> {
+
+}
@@ -0,0 +1,336 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.cache.StudentCache;
+import com.infnet.enrollmentmodule.client.StudentResolver;
+import com.infnet.enrollmentmodule.config.EnrollmentAsyncProperties;
+import com.infnet.enrollmentmodule.dto.EnrollmentOperationDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentRequestDTO;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.entity.Enrollment;
+import com.infnet.enrollmentmodule.entity.EnrollmentOperation;
+import com.infnet.enrollmentmodule.global.exception.EnrollmentOperationNotFoundException;
+import com.infnet.enrollmentmodule.global.exception.EnrollmentQueueFullException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceFailureException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceTimeoutException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceUnavailableException;
+import com.infnet.enrollmentmodule.repository.EnrollmentOperationRepository;
+import feign.FeignException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accepts enrollment requests without calling Student Service on the request thread; the only database access
+ * there is an indexed lookup of the idempotency key, so a retry after the flush replays the stored outcome.
+ * Operations wait in a bounded in-memory queue; a scheduled flush validates the students of a whole batch
+ * with one coalesced lookup and writes the enrollments and their operation records in one batched transaction.
+ * A batch that keeps failing to be written is split after {@code max-write-attempts}, and an operation that still
+ * cannot be stored on its own is stored as rejected, so one bad operation cannot hold up the queue.
+ * Until that flush an operation only lives in memory, so a crash drops it and the client's retry with the same
+ * idempotency key simply submits it again. The operation id is derived from the idempotency key, so every instance
+ * that accepts the same key hands out the id under which the one stored operation can be polled.
+ */
+@Service
+@Slf4j
+public class AsyncEnrollmentService {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_REJECTED = "REJECTED";
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    private final EnrollmentOperationRepository operationRepository;
+    private final StudentResolver studentResolver;
+    private final StudentCache studentCache;
+    private final CourseSeatAllocator seatAllocator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EnrollmentAsyncProperties properties;
+
+    private final BlockingQueue<EnrollmentOperation> queue;
+    private final Map<String, EnrollmentOperation> pendingById = new ConcurrentHashMap<>();
+    private List<EnrollmentOperation> retryBatch = List.of();
+    private int failedWrites;
+
+    public AsyncEnrollmentService(EnrollmentOperationRepository operationRepository,
+                                  StudentResolver studentResolver,
+                                  StudentCache studentCache,
+                                  CourseSeatAllocator seatAllocator,
+                                  EntityManager entityManager,
+                                  TransactionTemplate transactionTemplate,
+                                  EnrollmentAsyncProperties properties) {
+        this.operationRepository = operationRepository;
+        this.studentResolver = studentResolver;
+        this.studentCache = studentCache;
+        this.seatAllocator = seatAllocator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    public EnrollmentOperationDTO submit(String idempotencyKey, EnrollmentRequestDTO requestDTO) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        EnrollmentOperation known = findByIdempotencyKey(idempotencyKey);
+        if (known != null) {
+            return replay(known, requestDTO);
+        }
+
+        EnrollmentOperation operation = new EnrollmentOperation();
+        operation.setId(operationId(idempotencyKey));
+        operation.setIdempotencyKey(idempotencyKey);
+        operation.setStudentId(requestDTO.getStudentId());
+        operation.setCourseName(requestDTO.getCourseName());
+        operation.setStatus(STATUS_PENDING);
+        operation.setCreatedAt(LocalDateTime.now());
+
+        EnrollmentOperation raced = pendingById.putIfAbsent(operation.getId(), operation);
+        if (raced != null) {
+            return replay(raced, requestDTO);
+        }
+
+        if (!queue.offer(operation)) {
+            forget(operation);
+            throw new EnrollmentQueueFullException("Enrollment queue is full, please retry");
+        }
+
+        log.info("Accepted enrollment operation {} for student ID: {}", operation.getId(), operation.getStudentId());
+
+        return convertToDTO(operation);
+    }
+
+    // Not read-only, so it reads the primary: a replica may not have the row yet when the flush forgets the operation
+    @Transactional
+    public EnrollmentOperationDTO getOperation(String operationId) {
+        EnrollmentOperation pending = pendingById.get(operationId);
+        if (pending != null) {
+            return convertToDTO(pending);
+        }
+
+        return operationRepository.findById(operationId)
+                .map(this::convertToDTO)
+                .orElseThrow(() -> new EnrollmentOperationNotFoundException("Enrollment operation not found with ID: " + operationId));
+    }
+
+    @Scheduled(fixedDelayString = "${enrollment-async.flush-interval-ms:50}")
+    public void flushPending() {
+        List<EnrollmentOperation> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            Map<Long, StudentDTO> students;
+            try {
+                students = studentResolver.resolveAll(batch.stream()
+                        .map(EnrollmentOperation::getStudentId)
+                        .toList());
+            } catch (FeignException | StudentServiceFailureException | StudentServiceTimeoutException
+                     | StudentServiceUnavailableException ex) {
+                log.warn("Could not validate {} pending enrollments, retrying on next flush: {}", batch.size(), ex.getMessage());
+                retryBatch = batch;
+                return;
+            }
+
+            students.values().forEach(studentCache::put);
+            try {
+                write(batch, students);
+            } catch (RuntimeException ex) {
+                if (++failedWrites < properties.getMaxWriteAttempts()) {
+                    log.warn("Could not store {} enrollment operations, retrying on next flush: {}", batch.size(), ex.getMessage());
+                    retryBatch = batch;
+                    return;
+                }
+                log.error("Could not store {} enrollment operations after {} attempts, storing them one by one",
+                        batch.size(), failedWrites, ex);
+                writeEach(batch, students);
+            }
+            failedWrites = 0;
+            batch.forEach(this::forget);
+
+            log.info("Flushed {} enrollment operations", batch.size());
+        }
+    }
+
+    @Scheduled(cron = "${enrollment-async.cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeCompletedOperations() {
+        int deleted = operationRepository.deleteCompletedBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("Purged {} completed enrollment operations", deleted);
+    }
+
+    private List<EnrollmentOperation> nextBatch() {
+        if (!retryBatch.isEmpty()) {
+            List<EnrollmentOperation> batch = retryBatch;
+            retryBatch = List.of();
+            return batch;
+        }
+
+        List<EnrollmentOperation> batch = new ArrayList<>(properties.getBatchSize());
+        queue.drainTo(batch, properties.getBatchSize());
+        return batch;
+    }
+
+    private void write(List<EnrollmentOperation> batch, Map<Long, StudentDTO> students) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch, students));
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance stored one of these idempotency keys first; retry one by one so only that one is dropped
+            log.warn("Batch of {} enrollment operations hit a duplicate idempotency key, writing them one by one", batch.size());
+            batch.forEach(operation -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(operation), students));
+                } catch (DataIntegrityViolationException duplicate) {
+                    // The stored operation has the same id, so the client's polls find its outcome
+                    log.warn("Dropped duplicate enrollment operation with idempotency key: {}", operation.getIdempotencyKey());
+                }
+            });
+        }
+    }
+
+    /**
+     * Last resort for a batch that could not be written: every operation gets its own transaction, and one that
+     * still fails is stored as rejected. If even that fails it is dropped, as a crash would drop it.
+     */
+    private void writeEach(List<EnrollmentOperation> batch, Map<Long, StudentDTO> students) {
+        for (EnrollmentOperation operation : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(operation), students));
+            } catch (RuntimeException ex) {
+                log.warn("Rejecting enrollment operation {} that could not be stored: {}", operation.getId(), ex.getMessage());
+                storeRejected(operation);
+            }
+        }
+    }
+
+    private void storeRejected(EnrollmentOperation pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                EnrollmentOperation operation = copyOf(pending);
+                reject(operation, "Enrollment could not be stored", LocalDateTime.now());
+                entityManager.persist(operation);
+            });
+        } catch (DataIntegrityViolationException duplicate) {
+            log.warn("Dropped duplicate enrollment operation with idempotency key: {}", pending.getIdempotencyKey());
+        } catch (RuntimeException ex) {
+            log.error("Could not store rejected enrollment operation {}, dropping it", pending.getId(), ex);
+        }
+    }
+
+    /**
+     * Stores copies of the pending operations: the pending ones stay untouched, and keep answering polls, until
+     * the flush forgets them after commit. A batch that rolls back leaves no outcome behind for its retry.
+     */
+    private void persist(List<EnrollmentOperation> batch, Map<Long, StudentDTO> students) {
+        Set<String> storedKeys = operationRepository.findExistingKeys(batch.stream()
+                .map(EnrollmentOperation::getIdempotencyKey)
+                .toList());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (EnrollmentOperation pending : batch) {
+            if (storedKeys.contains(pending.getIdempotencyKey())) {
+                continue;
+            }
+
+            EnrollmentOperation operation = copyOf(pending);
+            StudentDTO student = students.get(operation.getStudentId());
+            if (student == null) {
+                reject(operation, "Student not found with ID: " + operation.getStudentId(), now);
+            } else if (!student.getActive()) {
+                reject(operation, "Cannot enroll inactive student with ID: " + student.getId(), now);
+            } else if (!seatAllocator.tryReserve(operation.getCourseName())) {
+                reject(operation, "Course is full: " + operation.getCourseName(), now);
+            } else {
+                Enrollment enrollment = new Enrollment();
+                enrollment.setStudentId(operation.getStudentId());
+                enrollment.setCourseName(operation.getCourseName());
+                enrollment.setEnrollmentDate(LocalDate.now());
+                enrollment.setStatus("ACTIVE");
+                entityManager.persist(enrollment);
+
+                operation.setEnrollmentId(enrollment.getId());
+                operation.setStatus(STATUS_COMPLETED);
+                operation.setCompletedAt(now);
+            }
+
+            entityManager.persist(operation);
+        }
+    }
+
+    private void reject(EnrollmentOperation operation, String message, LocalDateTime now) {
+        operation.setStatus(STATUS_REJECTED);
+        operation.setMessage(message);
+        operation.setCompletedAt(now);
+    }
+
+    private EnrollmentOperation findByIdempotencyKey(String idempotencyKey) {
+        EnrollmentOperation pending = pendingById.get(operationId(idempotencyKey));
+        if (pending != null) {
+            return pending;
+        }
+
+        return operationRepository.findByIdempotencyKey(idempotencyKey).orElse(null);
+    }
+
+    private EnrollmentOperationDTO replay(EnrollmentOperation operation, EnrollmentRequestDTO requestDTO) {
+        if (!Objects.equals(operation.getStudentId(), requestDTO.getStudentId())
+                || !Objects.equals(operation.getCourseName(), requestDTO.getCourseName())) {
+            throw new IllegalArgumentException("Idempotency-Key was already used for a different enrollment request");
+        }
+
+        return convertToDTO(operation);
+    }
+
+    private void forget(EnrollmentOperation operation) {
+        pendingById.remove(operation.getId(), operation);
+    }
+
+    private static String operationId(String idempotencyKey) {
+        return UUID.nameUUIDFromBytes(("enrollment-operation:" + idempotencyKey).getBytes(StandardCharsets.UTF_8))
+                .toString();
+    }
+
+    private static EnrollmentOperation copyOf(EnrollmentOperation operation) {
+        return new EnrollmentOperation(
+                operation.getId(),
+                operation.getIdempotencyKey(),
+                operation.getStudentId(),
+                operation.getCourseName(),
+                operation.getStatus(),
+                operation.getEnrollmentId(),
+                operation.getMessage(),
+                operation.getCreatedAt(),
+                operation.getCompletedAt()
+        );
+    }
+
+    private EnrollmentOperationDTO convertToDTO(EnrollmentOperation operation) {
+        return new EnrollmentOperationDTO(
+                operation.getId(),
+                operation.getIdempotencyKey(),
+                operation.getStatus(),
+                operation.getEnrollmentId(),
+                operation.getMessage(),
+                operation.getCreatedAt(),
+                operation.getCompletedAt()
+        );
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.entity.Course;
+import com.infnet.enrollmentmodule.entity.CourseCatalogLock;
+import com.infnet.enrollmentmodule.repository.CourseCatalogLockRepository;
+import com.infnet.enrollmentmodule.repository.CourseRepository;
+import com.infnet.enrollmentmodule.repository.CourseSeatStripeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Claims and returns course seats inside the caller's transaction, so a seat is only taken if the enrollment that
+ * needs it commits. Each claim is a conditional update of one stripe ({@code reserved < capacity}), which cannot
+ * oversell however many instances race for the last seats. Courses without a {@link Course} row are uncapped;
+ * enrollments in them hold the course catalog lock in shared mode, so a course being created counts them once
+ * they commit instead of missing them.
+ * <p>
+ * Methods report a full course through their return value rather than an exception, because an exception leaving
+ * a participating transactional method would mark the caller's whole transaction rollback-only.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+@Slf4j
+public class CourseSeatAllocator {
+
+    private static final int CATALOG_LOCK_ID = 1;
+
+    private final CourseRepository courseRepository;
+    private final CourseCatalogLockRepository catalogLockRepository;
+    private final CourseSeatStripeRepository stripeRepository;
+    private final Counter reservedSeats;
+    private final Counter releasedSeats;
+    private final Counter rejectedReservations;
+    private final TransactionTemplate newTransaction;
+
+    public CourseSeatAllocator(CourseRepository courseRepository, CourseCatalogLockRepository catalogLockRepository,
+                               CourseSeatStripeRepository stripeRepository, MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.catalogLockRepository = catalogLockRepository;
+        this.stripeRepository = stripeRepository;
+        this.reservedSeats = Counter.builder("course.seats.reserved")
+                .description("Course seats claimed by enrollments")
+                .register(meterRegistry);
+        this.releasedSeats = Counter.builder("course.seats.released")
+                .description("Course seats returned by cancelled, moved or deleted enrollments")
+                .register(meterRegistry);
+        this.rejectedReservations = Counter.builder("course.seats.rejected")
+                .description("Enrollments rejected because their course was full")
+                .register(meterRegistry);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Taken by course creation before it counts the active enrollments it turns into reserved seats. Waits for
+     * every transaction that enrolled into, or released from, a not yet existing course to end.
+     */
+    public void lockCatalog() {
+        if (catalogLockRepository.lockExclusive(CATALOG_LOCK_ID).isEmpty()) {
+            createCatalogLock();
+            catalogLockRepository.lockExclusive(CATALOG_LOCK_ID).orElseThrow();
+        }
+    }
+
+    /**
+     * @return {@code false} if the course is capped and has no seat left
+     */
+    public boolean tryReserve(String courseName) {
+        Optional<Course> course = findCourse(courseName);
+        if (course.isEmpty()) {
+            return true;
+        }
+
+        Long courseId = course.get().getId();
+        int stripes = course.get().getStripes();
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+
+        // Starting at a random stripe spreads concurrent claims; a full stripe sends the claim on to the next one
+        for (int i = 0; i < stripes; i++) {
+            if (stripeRepository.tryReserve(courseId, (start + i) % stripes) == 1) {
+                reservedSeats.increment();
+                return true;
+            }
+        }
+
+        rejectedReservations.increment();
+        log.info("Course is full: {}", courseName);
+        return false;
+    }
+
+    public void release(String courseName) {
+        Optional<Course> course = findCourse(courseName);
+        if (course.isEmpty()) {
+            return;
+        }
+
+        Long courseId = course.get().getId();
+        int stripes = course.get().getStripes();
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+
+        // Only the course total matters, so the seat can go back to any stripe that has one taken
+        for (int i = 0; i < stripes; i++) {
+            if (stripeRepository.tryRelease(courseId, (start + i) % stripes) == 1) {
+                releasedSeats.increment();
+                return;
+            }
+        }
+
+        log.warn("No reserved seat left to release for course: {}", courseName);
+    }
+
+    /**
+     * Looks the course up; if it does not exist, keeps course creation out until this transaction ends and looks
+     * again, since a creation that held the lock may have just committed it.
+     */
+    private Optional<Course> findCourse(String courseName) {
+        Optional<Course> course = courseRepository.findByName(courseName);
+        if (course.isPresent()) {
+            return course;
+        }
+
+        if (catalogLockRepository.lockShared(CATALOG_LOCK_ID).isEmpty()) {
+            createCatalogLock();
+            catalogLockRepository.lockShared(CATALOG_LOCK_ID).orElseThrow();
+        }
+        return courseRepository.findByName(courseName);
+    }
+
+    private void createCatalogLock() {
+        // Flyway seeds the row; schemas generated by Hibernate start without it
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!catalogLockRepository.existsById(CATALOG_LOCK_ID)) {
+                    catalogLockRepository.save(new CourseCatalogLock(CATALOG_LOCK_ID));
+                }
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Course catalog lock was created concurrently");
+        }
+    }
+
+}
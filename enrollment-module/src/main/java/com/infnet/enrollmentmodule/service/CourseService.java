@@ -0,0 +1,16 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.dto.CourseRequestDTO;
+import com.infnet.enrollmentmodule.dto.CourseResponseDTO;
+
+import java.util.List;
+
+public interface CourseService {
+
+    CourseResponseDTO createCourse(CourseRequestDTO requestDTO);
+
+    CourseResponseDTO getCourseById(Long id);
+
+    List<CourseResponseDTO> getAllCourses();
+
+}
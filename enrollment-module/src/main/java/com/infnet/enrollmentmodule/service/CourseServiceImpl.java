@@ -0,0 +1,117 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.config.CourseCapacityProperties;
+import com.infnet.enrollmentmodule.dto.CourseRequestDTO;
+import com.infnet.enrollmentmodule.dto.CourseResponseDTO;
+import com.infnet.enrollmentmodule.entity.Course;
+import com.infnet.enrollmentmodule.entity.CourseSeatStripe;
+import com.infnet.enrollmentmodule.global.exception.CourseNotFoundException;
+import com.infnet.enrollmentmodule.repository.CourseRepository;
+import com.infnet.enrollmentmodule.repository.CourseSeatStripeRepository;
+import com.infnet.enrollmentmodule.repository.EnrollmentRepository;
+import com.infnet.enrollmentmodule.repository.EnrollmentSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseServiceImpl implements CourseService {
+
+    private final CourseRepository courseRepository;
+    private final CourseSeatStripeRepository stripeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseSeatAllocator seatAllocator;
+    private final CourseCapacityProperties properties;
+
+    @Override
+    @Transactional
+    public CourseResponseDTO createCourse(CourseRequestDTO requestDTO) {
+        log.info("Creating course: {}", requestDTO.getName());
+
+        // Waits for in-flight enrollments into the still uncapped course, and keeps new ones out until it commits
+        seatAllocator.lockCatalog();
+
+        if (courseRepository.existsByName(requestDTO.getName())) {
+            throw new IllegalArgumentException("Course already exists: " + requestDTO.getName());
+        }
+
+        // Enrollments made while the course was still uncapped already hold their seats
+        long taken = enrollmentRepository.count(EnrollmentSpecifications.hasStatus("ACTIVE")
+                .and(EnrollmentSpecifications.hasCourseName(requestDTO.getName())));
+        if (taken > requestDTO.getCapacity()) {
+            throw new IllegalArgumentException("Capacity is below the " + taken + " active enrollments in " + requestDTO.getName());
+        }
+
+        int capacity = requestDTO.getCapacity();
+        int stripes = Math.max(1, Math.min(properties.getStripes(), capacity));
+
+        Course course = new Course();
+        course.setName(requestDTO.getName());
+        course.setCapacity(capacity);
+        course.setStripes(stripes);
+        Course savedCourse = courseRepository.save(course);
+
+        List<CourseSeatStripe> seatStripes = new ArrayList<>(stripes);
+        long remainingTaken = taken;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int stripeCapacity = capacity / stripes + (stripe < capacity % stripes ? 1 : 0);
+            int stripeReserved = (int) Math.min(stripeCapacity, remainingTaken);
+            remainingTaken -= stripeReserved;
+            seatStripes.add(new CourseSeatStripe(null, savedCourse.getId(), stripe, stripeCapacity, stripeReserved));
+        }
+        stripeRepository.saveAll(seatStripes);
+
+        log.info("Course created successfully with ID: {} and {} seats over {} stripes", savedCourse.getId(), capacity, stripes);
+
+        return convertToResponseDTO(savedCourse, taken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CourseResponseDTO getCourseById(Long id) {
+        log.info("Fetching course with ID: {}", id);
+
+        Course course = courseRepository.findById(id)
+                .orElseThrow(() -> new CourseNotFoundException("Course not found with ID: " + id));
+
+        return convertToResponseDTO(course, stripeRepository.sumReserved(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseResponseDTO> getAllCourses() {
+        log.info("Fetching all courses");
+
+        List<Course> courses = courseRepository.findAll();
+        if (courses.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> reserved = stripeRepository.sumReservedByCourse(courses.stream().map(Course::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
+
+        return courses.stream()
+                .map(course -> convertToResponseDTO(course, reserved.getOrDefault(course.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    private CourseResponseDTO convertToResponseDTO(Course course, long reservedSeats) {
+        return new CourseResponseDTO(
+                course.getId(),
+                course.getName(),
+                course.getCapacity(),
+                reservedSeats,
+                course.getCapacity() - reservedSeats
+        );
+    }
+
+}
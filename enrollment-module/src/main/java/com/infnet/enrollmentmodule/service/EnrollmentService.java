@@ -1,9 +1,13 @@
 package com.infnet.enrollmentmodule.service;
 
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
 import com.infnet.enrollmentmodule.dto.EnrollmentRequestDTO;
 import com.infnet.enrollmentmodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentSearchDTO;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface EnrollmentService {
 
@@ -13,6 +17,12 @@ public interface EnrollmentService {
 
     List<EnrollmentResponseDTO> getAllEnrollments();
 
+    List<Map<String, Object>> searchEnrollments(EnrollmentSearchDTO criteria);
+
+    CursorPageResponseDTO<EnrollmentResponseDTO> getEnrollmentsPage(Long cursor, int limit);
+
+    void streamAllEnrollments(Consumer<EnrollmentResponseDTO> consumer);
+
     List<EnrollmentResponseDTO> getEnrollmentsByStudentId(Long studentId);
 
     EnrollmentResponseDTO updateEnrollment(Long id, EnrollmentRequestDTO requestDTO);
@@ -1,28 +1,57 @@
 package com.infnet.enrollmentmodule.service;
 
-import com.infnet.enrollmentmodule.client.StudentClient;
+import com.infnet.enrollmentmodule.cache.StudentCache;
+import com.infnet.enrollmentmodule.client.ResilientStudentClient;
+import com.infnet.enrollmentmodule.config.StudentClientProperties;
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
 import com.infnet.enrollmentmodule.dto.EnrollmentRequestDTO;
 import com.infnet.enrollmentmodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentSearchDTO;
 import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.global.exception.CourseFullException;
 import com.infnet.enrollmentmodule.global.exception.EnrollmentNotFoundException;
 import com.infnet.enrollmentmodule.entity.Enrollment;
 import com.infnet.enrollmentmodule.repository.EnrollmentRepository;
+import com.infnet.enrollmentmodule.repository.EnrollmentSpecifications;
+import com.infnet.enrollmentmodule.repository.EnrollmentWithStudent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EnrollmentServiceImpl implements EnrollmentService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int DEFAULT_SEARCH_LIMIT = 100;
+    private static final String STUDENT_NAME = "studentName";
+    private static final List<String> FIELDS = List.of("id", "studentId", STUDENT_NAME, "courseName", "enrollmentDate", "status");
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "studentId", "courseName", "enrollmentDate", "status");
+
     private final EnrollmentRepository enrollmentRepository;
-    private final StudentClient studentClient;
+    private final ResilientStudentClient studentClient;
+    private final StudentCache studentCache;
+    private final StudentDirectory studentDirectory;
+    private final CourseSeatAllocator seatAllocator;
+    private final EntityManager entityManager;
+    private final StudentClientProperties studentClientProperties;
 
     @Override
     @Transactional
@@ -30,11 +59,14 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         log.info("Creating enrollment for student ID: {}", requestDTO.getStudentId());
 
         StudentDTO student = studentClient.getStudentById(requestDTO.getStudentId());
+        studentCache.put(student);
 
         if (!student.getActive()) {
             throw new IllegalArgumentException("Cannot enroll inactive student with ID: " + student.getId());
         }
 
+        reserveSeat(requestDTO.getCourseName());
+
         Enrollment enrollment = new Enrollment();
         enrollment.setStudentId(requestDTO.getStudentId());
         enrollment.setCourseName(requestDTO.getCourseName());
@@ -53,12 +85,10 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     public EnrollmentResponseDTO getEnrollmentById(Long id) {
         log.info("Fetching enrollment with ID: {}", id);
 
-        Enrollment enrollment = enrollmentRepository.findById(id)
+        EnrollmentWithStudent row = enrollmentRepository.findWithStudentById(id)
                 .orElseThrow(() -> new EnrollmentNotFoundException("Enrollment not found with ID: " + id));
 
-        StudentDTO student = studentClient.getStudentById(enrollment.getStudentId());
-
-        return convertToResponseDTO(enrollment, student);
+        return convertToResponseDTOs(List.of(row)).get(0);
     }
 
     @Override
@@ -66,22 +96,100 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     public List<EnrollmentResponseDTO> getAllEnrollments() {
         log.info("Fetching all enrollments");
 
-        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        List<EnrollmentWithStudent> rows = enrollmentRepository.findAllWithStudent();
 
-        return enrollments.stream()
-                .map(enrollment -> {
-                    StudentDTO student = studentClient.getStudentById(enrollment.getStudentId());
-                    return convertToResponseDTO(enrollment, student);
+        return convertToResponseDTOs(rows);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchEnrollments(EnrollmentSearchDTO criteria) {
+        log.info("Searching enrollments with criteria: {}", criteria);
+
+        List<String> fields = parseFields(criteria.getFields());
+        boolean withStudentName = fields.contains(STUDENT_NAME);
+
+        // Only the requested columns are selected; the student name comes from the directory, keyed by student ID
+        List<String> columns = fields.stream()
+                .filter(field -> !field.equals(STUDENT_NAME))
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (withStudentName && !columns.contains("studentId")) {
+            columns.add("studentId");
+        }
+
+        List<Tuple> rows = enrollmentRepository.findFields(
+                EnrollmentSpecifications.matching(criteria),
+                columns,
+                parseSort(criteria.getSort()),
+                criteria.getLimit() != null ? criteria.getLimit() : DEFAULT_SEARCH_LIMIT);
+
+        Map<Long, StudentDTO> students = withStudentName
+                ? studentDirectory.getStudents(rows.stream()
+                        .map(row -> row.get("studentId", Long.class))
+                        .collect(Collectors.toSet()))
+                : Map.of();
+
+        return rows.stream()
+                .map(row -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    for (String field : fields) {
+                        if (field.equals(STUDENT_NAME)) {
+                            StudentDTO student = students.get(row.get("studentId", Long.class));
+                            item.put(field, student != null ? student.getName() : null);
+                        } else {
+                            item.put(field, row.get(field));
+                        }
+                    }
+                    return item;
                 })
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<EnrollmentResponseDTO> getEnrollmentsPage(Long cursor, int limit) {
+        log.info("Fetching enrollments page after ID: {} with limit: {}", cursor, limit);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<EnrollmentWithStudent> rows = enrollmentRepository.findWithStudentByIdGreaterThan(
+                cursor != null ? cursor : 0L, PageRequest.of(0, limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<EnrollmentResponseDTO> items = convertToResponseDTOs(hasNext ? rows.subList(0, limit) : rows);
+        Long next = hasNext ? items.get(items.size() - 1).getId() : null;
+
+        return new CursorPageResponseDTO<>(items, next);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEnrollments(Consumer<EnrollmentResponseDTO> consumer) {
+        log.info("Streaming all enrollments");
+
+        int chunkSize = studentClientProperties.getBatchSize();
+        List<EnrollmentWithStudent> chunk = new ArrayList<>(chunkSize);
+
+        try (Stream<EnrollmentWithStudent> rows = enrollmentRepository.streamAllWithStudent()) {
+            rows.forEach(row -> {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    flushChunk(chunk, consumer);
+                }
+            });
+        }
+
+        flushChunk(chunk, consumer);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<EnrollmentResponseDTO> getEnrollmentsByStudentId(Long studentId) {
         log.info("Fetching enrollments for student ID: {}", studentId);
 
-        StudentDTO student = studentClient.getStudentById(studentId);
+        StudentDTO student = studentDirectory.getStudent(studentId);
 
         List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
 
@@ -99,11 +207,17 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .orElseThrow(() -> new EnrollmentNotFoundException("Enrollment not found with ID: " + id));
 
         StudentDTO student = studentClient.getStudentById(requestDTO.getStudentId());
+        studentCache.put(student);
 
         if (!student.getActive()) {
             throw new IllegalArgumentException("Cannot update enrollment with inactive student");
         }
 
+        if (isActive(enrollment) && !enrollment.getCourseName().equals(requestDTO.getCourseName())) {
+            reserveSeat(requestDTO.getCourseName());
+            seatAllocator.release(enrollment.getCourseName());
+        }
+
         enrollment.setStudentId(requestDTO.getStudentId());
         enrollment.setCourseName(requestDTO.getCourseName());
 
@@ -122,6 +236,10 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> new EnrollmentNotFoundException("Enrollment not found with ID: " + id));
 
+        if (isActive(enrollment)) {
+            seatAllocator.release(enrollment.getCourseName());
+        }
+
         enrollmentRepository.delete(enrollment);
 
         log.info("Enrollment deleted successfully with ID: {}", id);
@@ -135,22 +253,100 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> new EnrollmentNotFoundException("Enrollment not found with ID: " + id));
 
+        // The version check on flush stops two concurrent cancels from both returning the seat
+        if (isActive(enrollment)) {
+            seatAllocator.release(enrollment.getCourseName());
+        }
+
         enrollment.setStatus("CANCELLED");
 
         Enrollment cancelledEnrollment = enrollmentRepository.save(enrollment);
 
         log.info("Enrollment cancelled successfully with ID: {}", cancelledEnrollment.getId());
 
-        StudentDTO student = studentClient.getStudentById(enrollment.getStudentId());
+        StudentDTO student = studentDirectory.getStudent(enrollment.getStudentId());
 
         return convertToResponseDTO(cancelledEnrollment, student);
     }
 
+    private void reserveSeat(String courseName) {
+        if (!seatAllocator.tryReserve(courseName)) {
+            throw new CourseFullException("Course is full: " + courseName);
+        }
+    }
+
+    private static boolean isActive(Enrollment enrollment) {
+        return "ACTIVE".equals(enrollment.getStatus());
+    }
+
+    private static List<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return FIELDS;
+        }
+
+        List<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        requested.stream()
+                .filter(field -> !FIELDS.contains(field))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new IllegalArgumentException("Unknown field: " + field + ". Allowed fields: " + FIELDS);
+                });
+        return requested.isEmpty() ? FIELDS : requested;
+    }
+
+    private static Sort parseSort(String sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+
+        if (sort != null) {
+            for (String token : sort.split(",")) {
+                String property = token.trim();
+                if (property.isEmpty()) {
+                    continue;
+                }
+                boolean descending = property.startsWith("-");
+                property = descending ? property.substring(1) : property;
+                if (!SORTABLE_FIELDS.contains(property)) {
+                    throw new IllegalArgumentException("Cannot sort by: " + property + ". Sortable fields: " + SORTABLE_FIELDS);
+                }
+                orders.add(descending ? Sort.Order.desc(property) : Sort.Order.asc(property));
+            }
+        }
+
+        // Ties are broken by ID so the limited result is deterministic
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) {
+            orders.add(Sort.Order.asc("id"));
+        }
+        return Sort.by(orders);
+    }
+
+    private void flushChunk(List<EnrollmentWithStudent> chunk, Consumer<EnrollmentResponseDTO> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        convertToResponseDTOs(chunk).forEach(consumer);
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    private List<EnrollmentResponseDTO> convertToResponseDTOs(List<EnrollmentWithStudent> rows) {
+        Map<Long, StudentDTO> students = studentDirectory.resolveStudents(rows);
+
+        return rows.stream()
+                .map(EnrollmentWithStudent::enrollment)
+                .map(enrollment -> convertToResponseDTO(enrollment, students.get(enrollment.getStudentId())))
+                .collect(Collectors.toList());
+    }
+
     private EnrollmentResponseDTO convertToResponseDTO(Enrollment enrollment, StudentDTO student) {
         return new EnrollmentResponseDTO(
                 enrollment.getId(),
                 enrollment.getStudentId(),
-                student.getName(),
+                student != null ? student.getName() : null,
                 enrollment.getCourseName(),
                 enrollment.getEnrollmentDate(),
                 enrollment.getStatus()
@@ -0,0 +1,93 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.cache.StudentCache;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.entity.StudentProjection;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceFailureException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceTimeoutException;
+import com.infnet.enrollmentmodule.global.exception.StudentServiceUnavailableException;
+import com.infnet.enrollmentmodule.repository.EnrollmentWithStudent;
+import com.infnet.enrollmentmodule.repository.StudentProjectionRepository;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentDirectory {
+
+    private final StudentProjectionRepository projectionRepository;
+    private final StudentCache studentCache;
+
+    public StudentDTO getStudent(Long id) {
+        return projectionRepository.findById(id)
+                .filter(projection -> !projection.getDeleted())
+                .map(StudentDirectory::convertToStudentDTO)
+                .orElseGet(() -> studentCache.getStudent(id));
+    }
+
+    public Map<Long, StudentDTO> getStudents(Collection<Long> ids) {
+        Map<Long, StudentDTO> students = new HashMap<>();
+        Set<Long> unknownIds = new HashSet<>(ids);
+
+        projectionRepository.findAllById(ids).forEach(projection -> {
+            unknownIds.remove(projection.getId());
+            if (!projection.getDeleted()) {
+                students.put(projection.getId(), convertToStudentDTO(projection));
+            }
+        });
+
+        if (!unknownIds.isEmpty()) {
+            students.putAll(fetchRemote(unknownIds));
+        }
+
+        return students;
+    }
+
+    public Map<Long, StudentDTO> resolveStudents(Collection<EnrollmentWithStudent> rows) {
+        Map<Long, StudentDTO> students = new HashMap<>();
+
+        rows.stream()
+                .filter(row -> row.student() != null && !row.student().getDeleted())
+                .forEach(row -> students.putIfAbsent(row.student().getId(), convertToStudentDTO(row.student())));
+
+        Set<Long> unknownIds = rows.stream()
+                .filter(row -> row.student() == null)
+                .map(row -> row.enrollment().getStudentId())
+                .collect(Collectors.toSet());
+
+        if (!unknownIds.isEmpty()) {
+            students.putAll(fetchRemote(unknownIds));
+        }
+
+        return students;
+    }
+
+    private Map<Long, StudentDTO> fetchRemote(Set<Long> studentIds) {
+        try {
+            return studentCache.getStudents(studentIds);
+        } catch (FeignException | StudentServiceFailureException | StudentServiceTimeoutException
+                 | StudentServiceUnavailableException ex) {
+            log.warn("Could not resolve {} students missing from the local projection: {}", studentIds.size(), ex.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static StudentDTO convertToStudentDTO(StudentProjection projection) {
+        StudentDTO student = new StudentDTO();
+        student.setId(projection.getId());
+        student.setName(projection.getName());
+        student.setActive(projection.getActive());
+        return student;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.client.ResilientStudentClient;
+import com.infnet.enrollmentmodule.config.StudentClientProperties;
+import com.infnet.enrollmentmodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.repository.StudentProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "student-projection.backfill-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class StudentProjectionBackfill {
+
+    private final StudentProjectionRepository projectionRepository;
+    private final StudentProjectionService projectionService;
+    private final ResilientStudentClient studentClient;
+    private final StudentClientProperties studentClientProperties;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (projectionRepository.count() > 0) {
+            return;
+        }
+
+        log.info("Student projection is empty, backfilling from Student Service");
+
+        long cursor = 0L;
+        int loaded = 0;
+
+        try {
+            while (true) {
+                CursorPageResponseDTO<StudentDTO> page =
+                        studentClient.getStudentsPage(cursor, studentClientProperties.getBatchSize());
+                projectionService.applySnapshot(page.getItems());
+                loaded += page.getItems().size();
+
+                if (page.getNext() == null) {
+                    break;
+                }
+                cursor = page.getNext();
+            }
+
+            log.info("Backfilled {} students into the local projection", loaded);
+        } catch (RuntimeException ex) {
+            log.warn("Student projection backfill stopped after {} students: {}", loaded, ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.cache.StudentCache;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.dto.StudentEventDTO;
+import com.infnet.enrollmentmodule.entity.StudentProjection;
+import com.infnet.enrollmentmodule.repository.StudentProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentProjectionService {
+
+    private static final String EVENT_DELETED = "DELETED";
+    private static final long SNAPSHOT_VERSION = 0L;
+
+    private final StudentProjectionRepository projectionRepository;
+    private final StudentCache studentCache;
+
+    /**
+     * Applies each event unless the projection already holds a later change of the student. Events are ordered
+     * by the student change version, which Student Service hands out in commit order; relays may deliver a batch
+     * more than once or out of order.
+     */
+    @Transactional
+    public void applyEvents(List<StudentEventDTO> events) {
+        log.info("Applying {} student events", events.size());
+
+        Map<Long, StudentProjection> projections = loadProjections(events.stream()
+                .map(StudentEventDTO::getStudentId)
+                .toList());
+        Map<Long, StudentProjection> changed = new HashMap<>();
+
+        events.stream()
+                .sorted(Comparator.comparing(StudentEventDTO::getChangeVersion))
+                .forEach(event -> {
+                    StudentProjection projection = projections.computeIfAbsent(event.getStudentId(), this::newProjection);
+
+                    if (projection.getLastChangeVersion() != null
+                            && event.getChangeVersion() <= projection.getLastChangeVersion()) {
+                        return;
+                    }
+
+                    if (EVENT_DELETED.equals(event.getType()) || event.getStudent() == null) {
+                        projection.setActive(false);
+                        projection.setDeleted(true);
+                    } else {
+                        projection.setName(event.getStudent().getName());
+                        projection.setActive(event.getStudent().getActive());
+                        projection.setDeleted(false);
+                    }
+
+                    projection.setLastChangeVersion(event.getChangeVersion());
+                    projection.setUpdatedAt(LocalDateTime.now());
+                    changed.put(projection.getId(), projection);
+                });
+
+        projectionRepository.saveAll(changed.values());
+        changed.keySet().forEach(studentCache::invalidate);
+    }
+
+    @Transactional
+    public void applySnapshot(List<StudentDTO> students) {
+        Map<Long, StudentProjection> projections = loadProjections(students.stream()
+                .map(StudentDTO::getId)
+                .toList());
+
+        List<StudentProjection> created = students.stream()
+                .filter(student -> !projections.containsKey(student.getId()))
+                .map(student -> {
+                    StudentProjection projection = newProjection(student.getId());
+                    projection.setName(student.getName());
+                    projection.setActive(student.getActive());
+                    projection.setLastChangeVersion(SNAPSHOT_VERSION);
+                    projection.setUpdatedAt(LocalDateTime.now());
+                    return projection;
+                })
+                .toList();
+
+        projectionRepository.saveAll(created);
+    }
+
+    private Map<Long, StudentProjection> loadProjections(List<Long> studentIds) {
+        return projectionRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(StudentProjection::getId, Function.identity()));
+    }
+
+    private StudentProjection newProjection(Long studentId) {
+        StudentProjection projection = new StudentProjection();
+        projection.setId(studentId);
+        return projection;
+    }
+
+}
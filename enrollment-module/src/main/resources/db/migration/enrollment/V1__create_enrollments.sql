@@ -0,0 +1,15 @@
+CREATE SEQUENCE enrollments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE enrollments (
+    id              BIGINT       NOT NULL,
+    student_id      BIGINT       NOT NULL,
+    course_name     VARCHAR(100) NOT NULL,
+    enrollment_date DATE         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    version         BIGINT,
+    CONSTRAINT pk_enrollments PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_enrollments_student_id ON enrollments (student_id);
+CREATE INDEX idx_enrollments_status ON enrollments (status);
+CREATE INDEX idx_enrollments_course_name ON enrollments (course_name);
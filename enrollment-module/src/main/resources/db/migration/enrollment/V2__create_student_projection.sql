@@ -0,0 +1,9 @@
+CREATE TABLE student_projection (
+    id            BIGINT       NOT NULL,
+    name          VARCHAR(100),
+    active        BOOLEAN      NOT NULL,
+    deleted       BOOLEAN      NOT NULL,
+    last_event_id BIGINT       NOT NULL,
+    updated_at    TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_student_projection PRIMARY KEY (id)
+);
@@ -0,0 +1,15 @@
+CREATE TABLE enrollment_operations (
+    id              VARCHAR(36)  NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    student_id      BIGINT       NOT NULL,
+    course_name     VARCHAR(100) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    enrollment_id   BIGINT,
+    message         VARCHAR(255),
+    created_at      TIMESTAMP    NOT NULL,
+    completed_at    TIMESTAMP,
+    CONSTRAINT pk_enrollment_operations PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_enrollment_operations_idempotency_key ON enrollment_operations (idempotency_key);
+CREATE INDEX idx_enrollment_operations_completed_at ON enrollment_operations (completed_at);
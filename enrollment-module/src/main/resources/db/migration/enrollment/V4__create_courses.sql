@@ -0,0 +1,23 @@
+CREATE SEQUENCE courses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE course_seat_stripes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE courses (
+    id       BIGINT       NOT NULL,
+    name     VARCHAR(100) NOT NULL,
+    capacity INTEGER      NOT NULL,
+    stripes  INTEGER      NOT NULL,
+    CONSTRAINT pk_courses PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_courses_name ON courses (name);
+
+CREATE TABLE course_seat_stripes (
+    id        BIGINT  NOT NULL,
+    course_id BIGINT  NOT NULL,
+    stripe    INTEGER NOT NULL,
+    capacity  INTEGER NOT NULL,
+    reserved  INTEGER NOT NULL,
+    CONSTRAINT pk_course_seat_stripes PRIMARY KEY (id),
+    CONSTRAINT uk_course_seat_stripes_course_stripe UNIQUE (course_id, stripe),
+    CONSTRAINT fk_course_seat_stripes_course FOREIGN KEY (course_id) REFERENCES courses (id)
+);
@@ -0,0 +1,6 @@
+CREATE TABLE course_catalog_lock (
+    id INTEGER NOT NULL,
+    CONSTRAINT pk_course_catalog_lock PRIMARY KEY (id)
+);
+
+INSERT INTO course_catalog_lock (id) VALUES (1);
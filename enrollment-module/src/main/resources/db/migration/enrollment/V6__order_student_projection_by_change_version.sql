@@ -0,0 +1,4 @@
+-- Outbox ids are taken before commit and do not follow commit order; the student change version does
+ALTER TABLE student_projection ADD COLUMN last_change_version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE student_projection DROP COLUMN last_event_id;
@@ -0,0 +1,32 @@
+package com.infnet.enrollmentmodule;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the prod profile against H2 in PostgreSQL mode: the context only starts if the Flyway migrations
+ * produce the schema Hibernate validates the entities against.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:enrollmentdb-prod;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.cloud.consul.enabled=false",
+        "student-projection.backfill-enabled=false"
+})
+@ActiveProfiles("prod")
+class ProdProfileTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsMatchEntityMappings() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).isNotEmpty();
+    }
+
+}
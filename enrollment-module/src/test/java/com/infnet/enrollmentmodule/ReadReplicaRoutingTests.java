@@ -0,0 +1,108 @@
+package com.infnet.enrollmentmodule;
+
+import com.infnet.enrollmentmodule.dto.CourseResponseDTO;
+import com.infnet.enrollmentmodule.entity.Course;
+import com.infnet.enrollmentmodule.service.CourseService;
+import com.infnet.readreplicamodule.datasource.ReadReplicaRoutingDataSource;
+import com.infnet.readreplicamodule.datasource.ReadRoutingContext;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the service against a primary and a replica H2 database with different rows, so every read shows which
+ * database served it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTests.PRIMARY_URL,
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration/enrollment",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "read-replicas.enabled=true",
+        "read-replicas.replicas[0].name=replica-1",
+        "read-replicas.replicas[0].url=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "read-replicas.replicas[0].username=sa",
+        "spring.cloud.consul.enabled=false",
+        "student-projection.backfill-enabled=false"
+})
+class ReadReplicaRoutingTests {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:enrollmentdb-primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:enrollmentdb-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final long REPLICA_ONLY_ID = 1000L;
+    private static final String REPLICA_ONLY_NAME = "Replica Only";
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/enrollment")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void seedReplica() {
+        routingDataSource.checkReplicas(Duration.ofSeconds(1));
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""))
+                .update("MERGE INTO courses (id, name, capacity, stripes) KEY (id) VALUES (?, ?, 0, 1)",
+                        REPLICA_ONLY_ID, REPLICA_ONLY_NAME);
+    }
+
+    @AfterEach
+    void clearRoutingContext() {
+        ReadRoutingContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() {
+        assertThat(names(courseService.getAllCourses())).contains(REPLICA_ONLY_NAME);
+    }
+
+    @Test
+    void readsAfterAWriteGoToPrimary() {
+        ReadRoutingContext.requirePrimary();
+
+        assertThat(names(courseService.getAllCourses())).doesNotContain(REPLICA_ONLY_NAME);
+    }
+
+    @Test
+    void replicaReadsDoNotFillSecondLevelCache() {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Course.class);
+
+        assertThat(names(courseService.getAllCourses())).contains(REPLICA_ONLY_NAME);
+
+        assertThat(cache.contains(Course.class, REPLICA_ONLY_ID)).isFalse();
+    }
+
+    private static List<String> names(List<CourseResponseDTO> courses) {
+        return courses.stream()
+                .map(CourseResponseDTO::getName)
+                .toList();
+    }
+
+}
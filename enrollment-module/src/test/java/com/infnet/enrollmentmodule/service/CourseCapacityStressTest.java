@@ -0,0 +1,126 @@
+package com.infnet.enrollmentmodule.service;
+
+import com.infnet.enrollmentmodule.client.StudentClient;
+import com.infnet.enrollmentmodule.dto.CourseRequestDTO;
+import com.infnet.enrollmentmodule.dto.CourseResponseDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentRequestDTO;
+import com.infnet.enrollmentmodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentmodule.dto.StudentDTO;
+import com.infnet.enrollmentmodule.global.exception.CourseFullException;
+import com.infnet.enrollmentmodule.repository.EnrollmentRepository;
+import com.infnet.enrollmentmodule.repository.EnrollmentSpecifications;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Races many enrollments and cancellations for one capped course and checks that no seat is ever oversold or lost.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.consul.enabled=false",
+        "student-projection.backfill-enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@Slf4j
+class CourseCapacityStressTest {
+
+    private static final String COURSE_NAME = "Distributed Systems";
+    private static final int CAPACITY = 200;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+    private static final int CANCEL_EVERY = 4;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @MockBean
+    private StudentClient studentClient;
+
+    @Test
+    void concurrentEnrollmentsAndCancellationsNeverOversell() throws Exception {
+        when(studentClient.getStudentById(anyLong())).thenAnswer(invocation -> activeStudent(invocation.getArgument(0)));
+        CourseResponseDTO course = courseService.createCourse(new CourseRequestDTO(COURSE_NAME, CAPACITY));
+
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>(THREADS);
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            long studentId = thread + 1;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 1; attempt <= ATTEMPTS_PER_THREAD; attempt++) {
+                    try {
+                        EnrollmentResponseDTO enrollment =
+                                enrollmentService.createEnrollment(new EnrollmentRequestDTO(studentId, COURSE_NAME));
+                        enrolled.incrementAndGet();
+                        if (attempt % CANCEL_EVERY == 0) {
+                            enrollmentService.cancelEnrollment(enrollment.getId());
+                            cancelled.incrementAndGet();
+                        }
+                    } catch (CourseFullException ex) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        executor.shutdown();
+
+        int attempts = THREADS * ATTEMPTS_PER_THREAD;
+        log.info("{} enrollment attempts from {} threads in {} s ({} ops/s): {} enrolled, {} cancelled, {} rejected",
+                attempts, THREADS, String.format("%.2f", seconds), Math.round((attempts + cancelled.get()) / seconds),
+                enrolled.get(), cancelled.get(), rejected.get());
+
+        long active = enrollmentRepository.count(EnrollmentSpecifications.hasStatus("ACTIVE")
+                .and(EnrollmentSpecifications.hasCourseName(COURSE_NAME)));
+        CourseResponseDTO after = courseService.getCourseById(course.getId());
+
+        assertThat(enrolled.get() + rejected.get()).isEqualTo(attempts);
+        assertThat(rejected.get()).as("the course must have filled up").isPositive();
+        assertThat(active).isLessThanOrEqualTo(CAPACITY);
+        assertThat(active).isEqualTo(enrolled.get() - cancelled.get());
+        assertThat(after.getReservedSeats()).isEqualTo(active);
+        assertThat(after.getAvailableSeats()).isEqualTo(CAPACITY - active);
+    }
+
+    private static StudentDTO activeStudent(Long id) {
+        StudentDTO student = new StudentDTO();
+        student.setId(id);
+        student.setName("Student " + id);
+        student.setActive(true);
+        return student;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.infnet.enrollmentreactivemodule;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+@SpringBootApplication
+@EnableDiscoveryClient
+@ConfigurationPropertiesScan
+public class EnrollmentReactiveModuleApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(EnrollmentReactiveModuleApplication.class, args);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.infnet.enrollmentreactivemodule.client;
+
+import com.infnet.enrollmentreactivemodule.config.StudentClientProperties;
+import com.infnet.enrollmentreactivemodule.dto.StudentDTO;
+import com.infnet.enrollmentreactivemodule.global.exception.StudentNotFoundException;
+import com.infnet.enrollmentreactivemodule.global.exception.StudentServiceTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class StudentClient {
+
+    private final WebClient webClient;
+    private final StudentClientProperties properties;
+
+    public StudentClient(WebClient.Builder loadBalancedWebClientBuilder, StudentClientProperties properties) {
+        this.webClient = loadBalancedWebClientBuilder.baseUrl("http://student-service").build();
+        this.properties = properties;
+    }
+
+    public Mono<StudentDTO> getStudentById(Long id) {
+        return webClient.get()
+                .uri("/students/{id}", id)
+                .retrieve()
+                .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
+                        response -> Mono.error(new StudentNotFoundException("Student not found in Student Service")))
+                .bodyToMono(StudentDTO.class)
+                .timeout(properties.getCallTimeout())
+                .onErrorMap(TimeoutException.class,
+                        ex -> new StudentServiceTimeoutException("Timed out waiting for Student Service"));
+    }
+
+    public Flux<StudentDTO> getStudentsByIds(List<Long> ids) {
+        return webClient.post()
+                .uri("/students/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToFlux(StudentDTO.class)
+                .timeout(properties.getCallTimeout())
+                .onErrorMap(TimeoutException.class,
+                        ex -> new StudentServiceTimeoutException("Timed out waiting for Student Service"));
+    }
+
+}
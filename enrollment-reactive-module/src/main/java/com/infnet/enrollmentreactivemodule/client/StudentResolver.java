@@ -0,0 +1,56 @@
+package com.infnet.enrollmentreactivemodule.client;
+
+import com.infnet.enrollmentreactivemodule.config.StudentClientProperties;
+import com.infnet.enrollmentreactivemodule.dto.StudentDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Non-blocking counterpart of the MVC module's resolver: ids are split into batch calls that run
+ * concurrently on the event loop, at most {@code maxConcurrencyPerRequest} in flight per request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentResolver {
+
+    private final StudentClient studentClient;
+    private final StudentClientProperties properties;
+
+    public Mono<Map<Long, StudentDTO>> resolveAll(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (distinctIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<List<Long>> chunks = partition(distinctIds, properties.getBatchSize());
+
+        return Flux.fromIterable(chunks)
+                .flatMap(studentClient::getStudentsByIds, properties.getMaxConcurrencyPerRequest())
+                .collectMap(StudentDTO::getId)
+                .doOnNext(students -> log.debug("Resolved {} of {} students in {} batch calls",
+                        students.size(), distinctIds.size(), chunks.size()));
+    }
+
+    private static List<List<Long>> partition(List<Long> ids, int size) {
+        List<List<Long>> chunks = new ArrayList<>((ids.size() + size - 1) / size);
+        for (int from = 0; from < ids.size(); from += size) {
+            chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+        }
+        return chunks;
+    }
+
+}
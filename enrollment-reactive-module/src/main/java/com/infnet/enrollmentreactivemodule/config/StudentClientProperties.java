@@ -0,0 +1,20 @@
+package com.infnet.enrollmentreactivemodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "student-client")
+public class StudentClientProperties {
+
+    private int batchSize = 500;
+
+    private int maxConcurrencyPerRequest = 4;
+
+    private int maxConnections = 500;
+
+    private Duration callTimeout = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,32 @@
+package com.infnet.enrollmentreactivemodule.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(StudentClientProperties properties,
+                                                          ObjectProvider<WebClientCustomizer> customizers) {
+        ConnectionProvider connections = ConnectionProvider.builder("student-service")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(properties.getCallTimeout())
+                .build();
+
+        WebClient.Builder builder = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)));
+        // Keeps Boot's codec and observation customizations, which only apply to its own builder bean
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+
+}
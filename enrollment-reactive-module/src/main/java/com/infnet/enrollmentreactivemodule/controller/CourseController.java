@@ -0,0 +1,26 @@
+package com.infnet.enrollmentreactivemodule.controller;
+
+import com.infnet.enrollmentreactivemodule.global.exception.UnsupportedEndpointException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Courses are not part of this service's contract. The gateway routes them to enrollment-service, so they are
+ * answered with 501 rather than a 404 a client would take for a missing course.
+ */
+@RestController
+@RequestMapping("/courses/**")
+@Slf4j
+public class CourseController {
+
+    @RequestMapping
+    public Mono<ResponseEntity<Void>> unsupported() {
+        log.info("/courses - Not supported by the reactive enrollment service");
+        return Mono.error(new UnsupportedEndpointException(
+                "Courses are not supported by the reactive enrollment service"));
+    }
+
+}
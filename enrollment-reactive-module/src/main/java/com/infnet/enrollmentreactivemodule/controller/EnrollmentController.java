@@ -0,0 +1,110 @@
+package com.infnet.enrollmentreactivemodule.controller;
+
+import com.infnet.enrollmentreactivemodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentreactivemodule.dto.EnrollmentRequestDTO;
+import com.infnet.enrollmentreactivemodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentreactivemodule.global.exception.UnsupportedEndpointException;
+import com.infnet.enrollmentreactivemodule.service.EnrollmentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/enrollments")
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentController {
+
+    private final EnrollmentService enrollmentService;
+
+    @PostMapping
+    public Mono<ResponseEntity<EnrollmentResponseDTO>> createEnrollment(@Valid @RequestBody EnrollmentRequestDTO requestDTO) {
+        log.info("POST /enrollments - Creating enrollment");
+        return enrollmentService.createEnrollment(requestDTO)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @PostMapping("/async")
+    public Mono<ResponseEntity<Void>> createEnrollmentAsync() {
+        log.info("POST /enrollments/async - Not supported by the reactive enrollment service");
+        return Mono.error(new UnsupportedEndpointException(
+                "Asynchronous enrollments are not supported by the reactive enrollment service"));
+    }
+
+    @GetMapping("/operations/{operationId}")
+    public Mono<ResponseEntity<Void>> getEnrollmentOperation(@PathVariable String operationId) {
+        log.info("GET /enrollments/operations/{} - Not supported by the reactive enrollment service", operationId);
+        return Mono.error(new UnsupportedEndpointException(
+                "Asynchronous enrollments are not supported by the reactive enrollment service"));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EnrollmentResponseDTO>> getEnrollmentById(@PathVariable Long id) {
+        log.info("GET /enrollments/{} - Fetching enrollment", id);
+        return enrollmentService.getEnrollmentById(id)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Flux<EnrollmentResponseDTO> getAllEnrollments(@RequestParam MultiValueMap<String, String> params) {
+        // Ignoring filters would answer a search with every enrollment
+        if (!params.isEmpty()) {
+            return Flux.error(new UnsupportedEndpointException(
+                    "Filtering, sorting and field selection are not supported by the reactive enrollment service"));
+        }
+        log.info("GET /enrollments - Fetching all enrollments");
+        return enrollmentService.getAllEnrollments();
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<CursorPageResponseDTO<EnrollmentResponseDTO>>> getEnrollmentsPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /enrollments/page - Fetching enrollments after cursor {}", cursor);
+        return enrollmentService.getEnrollmentsPage(cursor, limit)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EnrollmentResponseDTO> streamEnrollments() {
+        log.info("GET /enrollments/stream - Streaming all enrollments");
+        return enrollmentService.streamAllEnrollments();
+    }
+
+    @GetMapping("/student/{studentId}")
+    public Flux<EnrollmentResponseDTO> getEnrollmentsByStudentId(@PathVariable Long studentId) {
+        log.info("GET /enrollments/student/{} - Fetching enrollments for student", studentId);
+        return enrollmentService.getEnrollmentsByStudentId(studentId);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<EnrollmentResponseDTO>> updateEnrollment(
+            @PathVariable Long id,
+            @Valid @RequestBody EnrollmentRequestDTO requestDTO) {
+        log.info("PUT /enrollments/{} - Updating enrollment", id);
+        return enrollmentService.updateEnrollment(id, requestDTO)
+                .map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("/{id}/cancel")
+    public Mono<ResponseEntity<EnrollmentResponseDTO>> cancelEnrollment(@PathVariable Long id) {
+        log.info("PATCH /enrollments/{}/cancel - Cancelling enrollment", id);
+        return enrollmentService.cancelEnrollment(id)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEnrollment(@PathVariable Long id) {
+        log.info("DELETE /enrollments/{} - Deleting enrollment", id);
+        return enrollmentService.deleteEnrollment(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.infnet.enrollmentreactivemodule.controller;
+
+import com.infnet.enrollmentreactivemodule.dto.StudentEventDTO;
+import com.infnet.enrollmentreactivemodule.service.StudentProjectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/internal/student-events")
+@RequiredArgsConstructor
+@Slf4j
+public class StudentEventController {
+
+    private final StudentProjectionService projectionService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Void>> receiveStudentEvents(@RequestBody List<StudentEventDTO> events) {
+        log.info("POST /internal/student-events - Receiving {} student events", events.size());
+        return projectionService.applyEvents(events)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.infnet.enrollmentreactivemodule.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentRequestDTO {
+
+    @NotNull(message = "Student ID is required")
+    private Long studentId;
+
+    @NotBlank(message = "Course name is required")
+    @Size(min = 3, max = 100, message = "Course name must be between 3 and 100 characters")
+    private String courseName;
+
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.infnet.enrollmentreactivemodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentResponseDTO {
+
+    private Long id;
+    private Long studentId;
+    private String studentName;
+    private String courseName;
+    private LocalDate enrollmentDate;
+    private String status;
+
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.infnet.enrollmentreactivemodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentDTO {
+
+    private Long id;
+    private String name;
+    private String email;
+    private String cpf;
+    private LocalDate birthDate;
+    private Boolean active;
+
+}
@@ -0,0 +1,21 @@
+package com.infnet.enrollmentreactivemodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentEventDTO {
+
+    private Long eventId;
+    private Long studentId;
+    private String type;
+    private Long changeVersion;
+    private StudentDTO student;
+    private LocalDateTime occurredAt;
+
+}
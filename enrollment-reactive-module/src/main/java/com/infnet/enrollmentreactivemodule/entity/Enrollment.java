@@ -0,0 +1,32 @@
+package com.infnet.enrollmentreactivemodule.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+@Table("enrollments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Enrollment {
+
+    @Id
+    private Long id;
+
+    @Column("student_id")
+    private Long studentId;
+
+    @Column("course_name")
+    private String courseName;
+
+    @Column("enrollment_date")
+    private LocalDate enrollmentDate;
+
+    private String status = "ACTIVE";
+
+}
@@ -0,0 +1,50 @@
+package com.infnet.enrollmentreactivemodule.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ids are assigned by student-service, so R2DBC cannot tell inserts from updates on its own;
+ * {@link #markNew()} flags rows that have not been stored yet.
+ */
+@Table("student_projection")
+@Data
+@NoArgsConstructor
+public class StudentProjection implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private Boolean active = true;
+
+    private Boolean deleted = false;
+
+    @Column("last_change_version")
+    private Long lastChangeVersion;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean newProjection;
+
+    public StudentProjection markNew() {
+        this.newProjection = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newProjection;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.infnet.enrollmentreactivemodule.global.exception;
+
+public class EnrollmentNotFoundException extends RuntimeException {
+
+    public EnrollmentNotFoundException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.infnet.enrollmentreactivemodule.global.exception;
+
+/**
+ * A request for part of the enrollment API this service does not implement: it is frozen at the contract it was
+ * forked with, before asynchronous enrollments, enrollment search and courses were added to enrollment-module.
+ */
+public class UnsupportedEndpointException extends RuntimeException {
+
+    public UnsupportedEndpointException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.infnet.enrollmentreactivemodule.repository;
+
+import com.infnet.enrollmentreactivemodule.entity.Enrollment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface EnrollmentRepository extends R2dbcRepository<Enrollment, Long> {
+
+    Flux<Enrollment> findByStudentId(Long studentId);
+
+    Flux<Enrollment> findAllByOrderByIdAsc();
+
+    Flux<Enrollment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+}
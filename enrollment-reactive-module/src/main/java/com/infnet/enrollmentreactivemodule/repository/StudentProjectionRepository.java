@@ -0,0 +1,9 @@
+package com.infnet.enrollmentreactivemodule.repository;
+
+import com.infnet.enrollmentreactivemodule.entity.StudentProjection;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StudentProjectionRepository extends R2dbcRepository<StudentProjection, Long> {
+}
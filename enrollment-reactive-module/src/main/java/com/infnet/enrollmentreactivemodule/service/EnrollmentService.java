@@ -0,0 +1,29 @@
+package com.infnet.enrollmentreactivemodule.service;
+
+import com.infnet.enrollmentreactivemodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentreactivemodule.dto.EnrollmentRequestDTO;
+import com.infnet.enrollmentreactivemodule.dto.EnrollmentResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface EnrollmentService {
+
+    Mono<EnrollmentResponseDTO> createEnrollment(EnrollmentRequestDTO requestDTO);
+
+    Mono<EnrollmentResponseDTO> getEnrollmentById(Long id);
+
+    Flux<EnrollmentResponseDTO> getAllEnrollments();
+
+    Mono<CursorPageResponseDTO<EnrollmentResponseDTO>> getEnrollmentsPage(Long cursor, int limit);
+
+    Flux<EnrollmentResponseDTO> streamAllEnrollments();
+
+    Flux<EnrollmentResponseDTO> getEnrollmentsByStudentId(Long studentId);
+
+    Mono<EnrollmentResponseDTO> updateEnrollment(Long id, EnrollmentRequestDTO requestDTO);
+
+    Mono<Void> deleteEnrollment(Long id);
+
+    Mono<EnrollmentResponseDTO> cancelEnrollment(Long id);
+
+}
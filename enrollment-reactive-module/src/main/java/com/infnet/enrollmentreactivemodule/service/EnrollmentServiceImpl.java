@@ -0,0 +1,187 @@
+package com.infnet.enrollmentreactivemodule.service;
+
+import com.infnet.enrollmentreactivemodule.client.StudentClient;
+import com.infnet.enrollmentreactivemodule.config.StudentClientProperties;
+import com.infnet.enrollmentreactivemodule.dto.CursorPageResponseDTO;
+import com.infnet.enrollmentreactivemodule.dto.EnrollmentRequestDTO;
+import com.infnet.enrollmentreactivemodule.dto.EnrollmentResponseDTO;
+import com.infnet.enrollmentreactivemodule.dto.StudentDTO;
+import com.infnet.enrollmentreactivemodule.entity.Enrollment;
+import com.infnet.enrollmentreactivemodule.global.exception.EnrollmentNotFoundException;
+import com.infnet.enrollmentreactivemodule.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentServiceImpl implements EnrollmentService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentClient studentClient;
+    private final StudentDirectory studentDirectory;
+    private final StudentClientProperties studentClientProperties;
+
+    @Override
+    public Mono<EnrollmentResponseDTO> createEnrollment(EnrollmentRequestDTO requestDTO) {
+        log.info("Creating enrollment for student ID: {}", requestDTO.getStudentId());
+
+        return studentClient.getStudentById(requestDTO.getStudentId())
+                .flatMap(student -> {
+                    if (!student.getActive()) {
+                        return Mono.error(new IllegalArgumentException("Cannot enroll inactive student with ID: " + student.getId()));
+                    }
+
+                    Enrollment enrollment = new Enrollment();
+                    enrollment.setStudentId(requestDTO.getStudentId());
+                    enrollment.setCourseName(requestDTO.getCourseName());
+                    enrollment.setEnrollmentDate(LocalDate.now());
+                    enrollment.setStatus("ACTIVE");
+
+                    return enrollmentRepository.save(enrollment)
+                            .doOnNext(saved -> log.info("Enrollment created successfully with ID: {}", saved.getId()))
+                            .map(saved -> convertToResponseDTO(saved, student));
+                });
+    }
+
+    @Override
+    public Mono<EnrollmentResponseDTO> getEnrollmentById(Long id) {
+        log.info("Fetching enrollment with ID: {}", id);
+
+        return findEnrollment(id)
+                .flatMap(enrollment -> convertToResponseDTOs(List.of(enrollment)))
+                .map(enrollments -> enrollments.get(0));
+    }
+
+    @Override
+    public Flux<EnrollmentResponseDTO> getAllEnrollments() {
+        log.info("Fetching all enrollments");
+
+        return resolveInChunks(enrollmentRepository.findAllByOrderByIdAsc());
+    }
+
+    @Override
+    public Mono<CursorPageResponseDTO<EnrollmentResponseDTO>> getEnrollmentsPage(Long cursor, int limit) {
+        log.info("Fetching enrollments page after ID: {} with limit: {}", cursor, limit);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+
+        return enrollmentRepository.findByIdGreaterThanOrderByIdAsc(cursor != null ? cursor : 0L, PageRequest.of(0, limit + 1))
+                .collectList()
+                .flatMap(rows -> {
+                    boolean hasNext = rows.size() > limit;
+                    return convertToResponseDTOs(hasNext ? rows.subList(0, limit) : rows)
+                            .map(items -> new CursorPageResponseDTO<>(items, hasNext ? items.get(items.size() - 1).getId() : null));
+                });
+    }
+
+    @Override
+    public Flux<EnrollmentResponseDTO> streamAllEnrollments() {
+        log.info("Streaming all enrollments");
+
+        return resolveInChunks(enrollmentRepository.findAllByOrderByIdAsc());
+    }
+
+    @Override
+    public Flux<EnrollmentResponseDTO> getEnrollmentsByStudentId(Long studentId) {
+        log.info("Fetching enrollments for student ID: {}", studentId);
+
+        return studentDirectory.getStudent(studentId)
+                .flatMapMany(student -> enrollmentRepository.findByStudentId(studentId)
+                        .map(enrollment -> convertToResponseDTO(enrollment, student)));
+    }
+
+    @Override
+    public Mono<EnrollmentResponseDTO> updateEnrollment(Long id, EnrollmentRequestDTO requestDTO) {
+        log.info("Updating enrollment with ID: {}", id);
+
+        return findEnrollment(id)
+                .flatMap(enrollment -> studentClient.getStudentById(requestDTO.getStudentId())
+                        .flatMap(student -> {
+                            if (!student.getActive()) {
+                                return Mono.error(new IllegalArgumentException("Cannot update enrollment with inactive student"));
+                            }
+
+                            enrollment.setStudentId(requestDTO.getStudentId());
+                            enrollment.setCourseName(requestDTO.getCourseName());
+
+                            return enrollmentRepository.save(enrollment)
+                                    .doOnNext(updated -> log.info("Enrollment updated successfully with ID: {}", updated.getId()))
+                                    .map(updated -> convertToResponseDTO(updated, student));
+                        }));
+    }
+
+    @Override
+    public Mono<Void> deleteEnrollment(Long id) {
+        log.info("Deleting enrollment with ID: {}", id);
+
+        return findEnrollment(id)
+                .flatMap(enrollmentRepository::delete)
+                .doOnSuccess(ignored -> log.info("Enrollment deleted successfully with ID: {}", id));
+    }
+
+    @Override
+    public Mono<EnrollmentResponseDTO> cancelEnrollment(Long id) {
+        log.info("Cancelling enrollment with ID: {}", id);
+
+        return findEnrollment(id)
+                .flatMap(enrollment -> {
+                    enrollment.setStatus("CANCELLED");
+                    return enrollmentRepository.save(enrollment);
+                })
+                .doOnNext(cancelled -> log.info("Enrollment cancelled successfully with ID: {}", cancelled.getId()))
+                .flatMap(cancelled -> studentDirectory.getStudent(cancelled.getStudentId())
+                        .map(student -> convertToResponseDTO(cancelled, student)));
+    }
+
+    private Mono<Enrollment> findEnrollment(Long id) {
+        return enrollmentRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EnrollmentNotFoundException("Enrollment not found with ID: " + id)));
+    }
+
+    private Flux<EnrollmentResponseDTO> resolveInChunks(Flux<Enrollment> enrollments) {
+        return enrollments
+                .buffer(studentClientProperties.getBatchSize())
+                .concatMap(this::convertToResponseDTOs)
+                .flatMapIterable(chunk -> chunk);
+    }
+
+    private Mono<List<EnrollmentResponseDTO>> convertToResponseDTOs(List<Enrollment> enrollments) {
+        List<Long> studentIds = enrollments.stream()
+                .map(Enrollment::getStudentId)
+                .toList();
+
+        return studentDirectory.resolveStudents(studentIds)
+                .map(students -> convert(enrollments, students));
+    }
+
+    private List<EnrollmentResponseDTO> convert(List<Enrollment> enrollments, Map<Long, StudentDTO> students) {
+        return enrollments.stream()
+                .map(enrollment -> convertToResponseDTO(enrollment, students.get(enrollment.getStudentId())))
+                .toList();
+    }
+
+    private EnrollmentResponseDTO convertToResponseDTO(Enrollment enrollment, StudentDTO student) {
+        return new EnrollmentResponseDTO(
+                enrollment.getId(),
+                enrollment.getStudentId(),
+                student != null ? student.getName() : null,
+                enrollment.getCourseName(),
+                enrollment.getEnrollmentDate(),
+                enrollment.getStatus()
+        );
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.infnet.enrollmentreactivemodule.service;
+
+import com.infnet.enrollmentreactivemodule.client.StudentClient;
+import com.infnet.enrollmentreactivemodule.client.StudentResolver;
+import com.infnet.enrollmentreactivemodule.dto.StudentDTO;
+import com.infnet.enrollmentreactivemodule.entity.StudentProjection;
+import com.infnet.enrollmentreactivemodule.global.exception.StudentServiceTimeoutException;
+import com.infnet.enrollmentreactivemodule.repository.StudentProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentDirectory {
+
+    private final StudentProjectionRepository projectionRepository;
+    private final StudentClient studentClient;
+    private final StudentResolver studentResolver;
+
+    public Mono<StudentDTO> getStudent(Long id) {
+        return projectionRepository.findById(id)
+                .filter(projection -> !projection.getDeleted())
+                .map(StudentDirectory::convertToStudentDTO)
+                .switchIfEmpty(Mono.defer(() -> studentClient.getStudentById(id)));
+    }
+
+    public Mono<Map<Long, StudentDTO>> resolveStudents(Collection<Long> studentIds) {
+        Set<Long> ids = new HashSet<>(studentIds);
+
+        return projectionRepository.findAllById(ids)
+                .collectList()
+                .flatMap(projections -> {
+                    Map<Long, StudentDTO> students = new HashMap<>();
+                    projections.stream()
+                            .filter(projection -> !projection.getDeleted())
+                            .forEach(projection -> students.put(projection.getId(), convertToStudentDTO(projection)));
+
+                    Set<Long> unknownIds = new HashSet<>(ids);
+                    projections.forEach(projection -> unknownIds.remove(projection.getId()));
+
+                    if (unknownIds.isEmpty()) {
+                        return Mono.just(students);
+                    }
+
+                    return fetchRemote(unknownIds).map(remote -> {
+                        students.putAll(remote);
+                        return students;
+                    });
+                });
+    }
+
+    private Mono<Map<Long, StudentDTO>> fetchRemote(Set<Long> studentIds) {
+        return studentResolver.resolveAll(studentIds)
+                .onErrorResume(ex -> ex instanceof WebClientException || ex instanceof StudentServiceTimeoutException, ex -> {
+                    log.warn("Could not resolve {} students missing from the local projection: {}", studentIds.size(), ex.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private static StudentDTO convertToStudentDTO(StudentProjection projection) {
+        StudentDTO student = new StudentDTO();
+        student.setId(projection.getId());
+        student.setName(projection.getName());
+        student.setActive(projection.getActive());
+        return student;
+    }
+
+}
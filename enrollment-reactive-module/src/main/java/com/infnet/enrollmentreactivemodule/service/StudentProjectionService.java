@@ -0,0 +1,82 @@
+package com.infnet.enrollmentreactivemodule.service;
+
+import com.infnet.enrollmentreactivemodule.dto.StudentEventDTO;
+import com.infnet.enrollmentreactivemodule.entity.StudentProjection;
+import com.infnet.enrollmentreactivemodule.repository.StudentProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentProjectionService {
+
+    private static final String EVENT_DELETED = "DELETED";
+
+    private final StudentProjectionRepository projectionRepository;
+
+    @Transactional
+    public Mono<Void> applyEvents(List<StudentEventDTO> events) {
+        log.info("Applying {} student events", events.size());
+
+        List<Long> studentIds = events.stream()
+                .map(StudentEventDTO::getStudentId)
+                .distinct()
+                .toList();
+
+        return projectionRepository.findAllById(studentIds)
+                .collectMap(StudentProjection::getId, Function.identity())
+                .map(existing -> applyInOrder(events, new HashMap<>(existing)))
+                .flatMapMany(projectionRepository::saveAll)
+                .then();
+    }
+
+    // Student change versions follow commit order; outbox event ids do not
+    private List<StudentProjection> applyInOrder(List<StudentEventDTO> events, Map<Long, StudentProjection> projections) {
+        Map<Long, StudentProjection> changed = new HashMap<>();
+
+        events.stream()
+                .sorted(Comparator.comparing(StudentEventDTO::getChangeVersion))
+                .forEach(event -> {
+                    StudentProjection projection = projections.computeIfAbsent(event.getStudentId(), this::newProjection);
+
+                    if (projection.getLastChangeVersion() != null
+                            && event.getChangeVersion() <= projection.getLastChangeVersion()) {
+                        return;
+                    }
+
+                    if (EVENT_DELETED.equals(event.getType()) || event.getStudent() == null) {
+                        projection.setActive(false);
+                        projection.setDeleted(true);
+                    } else {
+                        projection.setName(event.getStudent().getName());
+                        projection.setActive(event.getStudent().getActive());
+                        projection.setDeleted(false);
+                    }
+
+                    projection.setLastChangeVersion(event.getChangeVersion());
+                    projection.setUpdatedAt(LocalDateTime.now());
+                    changed.put(projection.getId(), projection);
+                });
+
+        return new ArrayList<>(changed.values());
+    }
+
+    private StudentProjection newProjection(Long studentId) {
+        StudentProjection projection = new StudentProjection();
+        projection.setId(studentId);
+        return projection.markNew();
+    }
+
+}
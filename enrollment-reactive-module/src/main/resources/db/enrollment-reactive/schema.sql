@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS enrollments (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    student_id      BIGINT       NOT NULL,
+    course_name     VARCHAR(100) NOT NULL,
+    enrollment_date DATE         NOT NULL,
+    status          VARCHAR(20)  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_enrollments_student_id ON enrollments (student_id);
+
+CREATE TABLE IF NOT EXISTS student_projection (
+    id                  BIGINT PRIMARY KEY,
+    name                VARCHAR(100),
+    active              BOOLEAN   NOT NULL,
+    deleted             BOOLEAN   NOT NULL,
+    last_change_version BIGINT    NOT NULL,
+    updated_at          TIMESTAMP NOT NULL
+);
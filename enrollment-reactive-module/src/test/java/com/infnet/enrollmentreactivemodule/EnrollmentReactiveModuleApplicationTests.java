@@ -0,0 +1,13 @@
+package com.infnet.enrollmentreactivemodule;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class EnrollmentReactiveModuleApplicationTests {
+
+    @Test
+    void contextLoads() {
+    }
+
+}
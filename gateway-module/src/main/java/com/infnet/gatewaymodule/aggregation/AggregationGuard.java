@@ -0,0 +1,64 @@
+package com.infnet.gatewaymodule.aggregation;
+
+import com.infnet.gatewaymodule.ratelimit.ClientKeyResolver;
+import com.infnet.gatewaymodule.ratelimit.InMemoryRateLimiter;
+import com.infnet.gatewaymodule.shedding.LoadSheddingFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gives the aggregation routes, which WebFlux serves outside the gateway routes, the same protection: the
+ * per-client {@link InMemoryRateLimiter} (limits in {@code aggregation.rate-limit}) and then the adaptive
+ * {@link LoadSheddingFilter} limit, both under the route id {@value #ROUTE_ID}.
+ */
+@Component
+public class AggregationGuard implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    public static final String ROUTE_ID = "aggregation";
+
+    private static final String EMPTY_KEY = "";
+
+    private final InMemoryRateLimiter rateLimiter;
+    private final ClientKeyResolver keyResolver;
+    private final LoadSheddingFilter loadSheddingFilter;
+
+    public AggregationGuard(InMemoryRateLimiter rateLimiter, ClientKeyResolver keyResolver,
+                            LoadSheddingFilter loadSheddingFilter, AggregationProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.keyResolver = keyResolver;
+        this.loadSheddingFilter = loadSheddingFilter;
+        rateLimiter.getConfig().put(ROUTE_ID, properties.getRateLimit());
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        // Same answer as RequestRateLimiter for a client it cannot identify
+        return keyResolver.resolve(request.exchange())
+                .defaultIfEmpty(EMPTY_KEY)
+                .flatMap(key -> EMPTY_KEY.equals(key)
+                        ? ServerResponse.status(HttpStatus.FORBIDDEN).build()
+                        : rateLimiter.isAllowed(ROUTE_ID, key).flatMap(response -> admit(response, request, next)));
+    }
+
+    private Mono<ServerResponse> admit(RateLimiter.Response response, ServerRequest request,
+                                       HandlerFunction<ServerResponse> next) {
+        request.exchange().getResponse().getHeaders().setAll(response.getHeaders());
+        if (!response.isAllowed()) {
+            return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+
+        return loadSheddingFilter.limit(ROUTE_ID,
+                () -> next.handle(request),
+                () -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
+    }
+
+}
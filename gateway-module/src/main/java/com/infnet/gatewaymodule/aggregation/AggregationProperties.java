@@ -0,0 +1,44 @@
+package com.infnet.gatewaymodule.aggregation;
+
+import com.infnet.gatewaymodule.ratelimit.InMemoryRateLimiter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "aggregation")
+public class AggregationProperties {
+
+    private Duration studentTimeout = Duration.ofSeconds(2);
+
+    private Duration enrollmentsTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Per-client limits of the aggregation routes; each request costs two downstream calls.
+     */
+    private InMemoryRateLimiter.Config rateLimit = new InMemoryRateLimiter.Config();
+
+    public Duration getStudentTimeout() {
+        return studentTimeout;
+    }
+
+    public void setStudentTimeout(Duration studentTimeout) {
+        this.studentTimeout = studentTimeout;
+    }
+
+    public Duration getEnrollmentsTimeout() {
+        return enrollmentsTimeout;
+    }
+
+    public void setEnrollmentsTimeout(Duration enrollmentsTimeout) {
+        this.enrollmentsTimeout = enrollmentsTimeout;
+    }
+
+    public InMemoryRateLimiter.Config getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(InMemoryRateLimiter.Config rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.infnet.gatewaymodule.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Serves {@code GET /api/aggregate/students/{id}} by calling student-service and enrollment-service in parallel,
+ * each with its own timeout, and merging both answers into a {@link StudentOverviewResponse}.
+ */
+@Component
+public class StudentOverviewHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentOverviewHandler.class);
+
+    private final WebClient webClient;
+    private final AggregationProperties properties;
+
+    public StudentOverviewHandler(WebClient.Builder loadBalancedWebClientBuilder, AggregationProperties properties) {
+        this.webClient = loadBalancedWebClientBuilder.build();
+        this.properties = properties;
+    }
+
+    public Mono<ServerResponse> getStudentOverview(ServerRequest request) {
+        String studentId = request.pathVariable("id");
+
+        Mono<Leg> student = fetch("student", "http://student-service/students/{id}", studentId,
+                properties.getStudentTimeout());
+        Mono<Leg> enrollments = fetch("enrollments", "http://enrollment-service/enrollments/student/{id}", studentId,
+                properties.getEnrollmentsTimeout());
+
+        return Mono.zip(student, enrollments)
+                .flatMap(legs -> respond(legs.getT1(), legs.getT2()));
+    }
+
+    private Mono<Leg> fetch(String name, String uri, String studentId, Duration timeout) {
+        return webClient.get()
+                .uri(uri, studentId)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(timeout)
+                .map(body -> Leg.succeeded(name, body))
+                .onErrorResume(ex -> {
+                    log.warn("Aggregation leg '{}' failed for student {}: {}", name, studentId, ex.toString());
+                    return Mono.just(Leg.failed(name, ex));
+                });
+    }
+
+    private Mono<ServerResponse> respond(Leg student, Leg enrollments) {
+        if (student.status() != null && student.status().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+            return ServerResponse.status(HttpStatus.NOT_FOUND)
+                    .bodyValue(new StudentOverviewResponse(null, null, false, Map.of(student.name(), student.error())));
+        }
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (Leg leg : new Leg[] {student, enrollments}) {
+            if (leg.error() != null) {
+                errors.put(leg.name(), leg.error());
+            }
+        }
+
+        HttpStatus status = errors.size() == 2 ? HttpStatus.BAD_GATEWAY : HttpStatus.OK;
+        return ServerResponse.status(status)
+                .bodyValue(new StudentOverviewResponse(student.body(), enrollments.body(), !errors.isEmpty(), errors));
+    }
+
+    private record Leg(String name, JsonNode body, String error, HttpStatusCode status) {
+
+        static Leg succeeded(String name, JsonNode body) {
+            return new Leg(name, body, null, null);
+        }
+
+        static Leg failed(String name, Throwable ex) {
+            if (ex instanceof WebClientResponseException response) {
+                return new Leg(name, null, name + " service answered " + response.getStatusCode().value(), response.getStatusCode());
+            }
+            if (ex instanceof TimeoutException) {
+                return new Leg(name, null, name + " service timed out", null);
+            }
+            return new Leg(name, null, name + " service unavailable", null);
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.infnet.gatewaymodule.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * Student plus enrollments in one body. A failed leg is left {@code null}, listed in {@code errors}
+ * and flags the response as {@code partial}.
+ */
+public record StudentOverviewResponse(JsonNode student, JsonNode enrollments, boolean partial, Map<String, String> errors) {
+}
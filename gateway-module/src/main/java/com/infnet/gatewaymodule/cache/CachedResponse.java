@@ -0,0 +1,9 @@
+package com.infnet.gatewaymodule.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Duration;
+
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag, Duration ttl) {
+}
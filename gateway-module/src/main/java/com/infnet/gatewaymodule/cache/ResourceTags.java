@@ -0,0 +1,94 @@
+package com.infnet.gatewaymodule.cache;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Names the resources a route's responses are built from, so that a write purges only what it can have changed.
+ * A response whose path carries the id of a resource (an {@code id-paths} pattern with an {@code {id}} variable)
+ * is tagged {@code <resource>:<id>}; any other response, such as a listing, is tagged {@code <resource>:*}.
+ * A write to one resource purges its {@code <resource>:<id>} and every {@code <resource>:*} response, on all
+ * routes; a write without an id, such as a creation, purges the {@code <resource>:*} responses only.
+ */
+final class ResourceTags {
+
+    private static final String ANY_ID = "*";
+
+    private final String resource;
+    private final List<String> resources;
+    private final List<IdPath> idPaths;
+
+    private ResourceTags(String resource, List<String> resources, List<IdPath> idPaths) {
+        this.resource = resource;
+        this.resources = resources;
+        this.idPaths = idPaths;
+    }
+
+    /**
+     * Without a configured resource the route is its own resource, so a write purges the whole route.
+     */
+    static ResourceTags of(String routeId, ResponseCacheGatewayFilterFactory.Config config) {
+        String resource = config.getResource() != null ? config.getResource() : routeId;
+
+        List<String> resources = new ArrayList<>();
+        resources.add(resource);
+        resources.addAll(config.getDependsOn());
+
+        List<IdPath> idPaths = new ArrayList<>();
+        for (String idPath : config.getIdPaths()) {
+            int separator = idPath.indexOf('=');
+            String pathResource = separator > 0 ? idPath.substring(0, separator).trim() : resource;
+            String pattern = idPath.substring(separator + 1).trim();
+            idPaths.add(new IdPath(pathResource, PathPatternParser.defaultInstance.parse(pattern)));
+        }
+
+        return new ResourceTags(resource, List.copyOf(resources), List.copyOf(idPaths));
+    }
+
+    /**
+     * Tags of a GET response: one per resource the route's responses are built from.
+     */
+    Set<String> cached(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        Set<String> tags = new LinkedHashSet<>();
+        for (String candidate : resources) {
+            String id = id(candidate, container);
+            tags.add(tag(candidate, id != null ? id : ANY_ID));
+        }
+        return tags;
+    }
+
+    /**
+     * Tags a write to this route invalidates.
+     */
+    Set<String> purgedBy(String path) {
+        String id = id(resource, PathContainer.parsePath(path));
+        return id != null ? Set.of(tag(resource, id), tag(resource, ANY_ID)) : Set.of(tag(resource, ANY_ID));
+    }
+
+    private String id(String candidate, PathContainer path) {
+        for (IdPath idPath : idPaths) {
+            if (idPath.resource().equals(candidate)) {
+                PathPattern.PathMatchInfo match = idPath.pattern().matchAndExtract(path);
+                if (match != null && match.getUriVariables().containsKey("id")) {
+                    return match.getUriVariables().get("id");
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String tag(String resource, String id) {
+        return resource + ':' + id;
+    }
+
+    private record IdPath(String resource, PathPattern pattern) {
+    }
+
+}
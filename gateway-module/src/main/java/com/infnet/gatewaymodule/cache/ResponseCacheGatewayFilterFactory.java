@@ -0,0 +1,277 @@
+package com.infnet.gatewaymodule.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches successful GET responses, answers {@code If-None-Match} with 304 from the cache and, whenever a write
+ * passes through, purges the responses of the resource it wrote (see {@link ResourceTags}), on this route and on
+ * the routes that depend on it. Usage: {@code ResponseCache=30s}, which purges the whole route on every write, or
+ * with {@code resource}, {@code id-paths} and {@code depends-on} arguments.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Set<HttpMethod> WRITE_METHODS =
+            Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private static final List<MediaType> STREAMING_TYPES =
+            List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    private final ResponseCacheStore store;
+    private final ResponseCacheProperties properties;
+    private final Counter notModified;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store, ResponseCacheProperties properties,
+                                             MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.store = store;
+        this.properties = properties;
+        this.notModified = Counter.builder("gateway.response.cache.not.modified")
+                .description("Conditional GETs answered with 304 by the gateway")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Map<String, ResourceTags> tagsByRoute = new ConcurrentHashMap<>();
+        // Must run before NettyWriteResponseFilter so the decorated response is the one written to
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : exchange.getRequest().getPath().value();
+            ResourceTags tags = tagsByRoute.computeIfAbsent(routeId, id -> ResourceTags.of(id, config));
+            return filter(exchange, chain, config, routeId, tags);
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config,
+                              String routeId, ResourceTags resourceTags) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            Set<String> purged = resourceTags.purgedBy(path);
+            store.purge(purged);
+            return chain.filter(exchange).doFinally(signal -> store.purge(purged));
+        }
+
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        String key = store.key(routeId, request);
+        CachedResponse cached = store.get(key);
+        if (cached != null) {
+            return writeCached(exchange, cached);
+        }
+
+        long generation = store.generation();
+        CachingResponse response = new CachingResponse(exchange, resourceTags.cached(path), generation, key,
+                config.getTtl());
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+
+        if (matchesIfNoneMatch(exchange.getRequest(), cached.etag())) {
+            notModified.increment();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(cached.status());
+        response.getHeaders().addAll(cached.headers());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String etag(byte[] body) {
+        return "\"0" + DigestUtils.md5DigestAsHex(body) + '"';
+    }
+
+    private static HttpHeaders cacheableHeaders(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.putAll(headers);
+        copy.remove(HttpHeaders.CONTENT_LENGTH);
+        copy.remove(HttpHeaders.TRANSFER_ENCODING);
+        copy.remove(HttpHeaders.CONNECTION);
+        copy.remove(HttpHeaders.DATE);
+        copy.remove(HttpHeaders.ETAG);
+        copy.remove(CACHE_STATUS_HEADER);
+        return copy;
+    }
+
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+        private final Set<String> tags;
+        private final long generation;
+        private final String key;
+        private final Duration ttl;
+
+        CachingResponse(ServerWebExchange exchange, Set<String> tags, long generation, String key, Duration ttl) {
+            super(exchange.getResponse());
+            this.request = exchange.getRequest();
+            this.tags = tags;
+            this.generation = generation;
+            this.key = key;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body)
+                    .flatMap(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        return write(bytes);
+                    })
+                    .switchIfEmpty(Mono.defer(super::setComplete));
+        }
+
+        private Mono<Void> write(byte[] bytes) {
+            String etag = etag(bytes);
+            HttpHeaders headers = getHeaders();
+            headers.setETag(etag);
+            headers.set(CACHE_STATUS_HEADER, "MISS");
+
+            if (bytes.length <= properties.getMaxEntrySize().toBytes()) {
+                store.put(tags, generation, key, new CachedResponse(getStatusCode(), cacheableHeaders(headers), bytes, etag, ttl));
+            }
+
+            if (matchesIfNoneMatch(request, etag)) {
+                notModified.increment();
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                return super.setComplete();
+            }
+
+            headers.setContentLength(bytes.length);
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+
+        private boolean isCacheable() {
+            HttpHeaders headers = getHeaders();
+            MediaType contentType = headers.getContentType();
+            String cacheControl = headers.getCacheControl();
+
+            return getStatusCode() != null && getStatusCode().value() == HttpStatus.OK.value()
+                    && contentType != null
+                    && STREAMING_TYPES.stream().noneMatch(contentType::isCompatibleWith)
+                    && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                    && (cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private")));
+        }
+
+    }
+
+    public static class Config {
+
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * Resource the route's writes change; the route id when unset.
+         */
+        private String resource;
+
+        /**
+         * Path patterns with an {@code {id}} variable, as {@code pattern} for the route's own resource or
+         * {@code resource=pattern} for another one.
+         */
+        private List<String> idPaths = List.of();
+
+        /**
+         * Other resources the route's responses are built from, whose writes purge them too.
+         */
+        private List<String> dependsOn = List.of();
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public String getResource() {
+            return resource;
+        }
+
+        public void setResource(String resource) {
+            this.resource = resource;
+        }
+
+        public List<String> getIdPaths() {
+            return idPaths;
+        }
+
+        public void setIdPaths(List<String> idPaths) {
+            this.idPaths = idPaths;
+        }
+
+        public List<String> getDependsOn() {
+            return dependsOn;
+        }
+
+        public void setDependsOn(List<String> dependsOn) {
+            this.dependsOn = dependsOn;
+        }
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.infnet.gatewaymodule.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+}
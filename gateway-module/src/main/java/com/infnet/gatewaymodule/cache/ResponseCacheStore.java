@@ -0,0 +1,148 @@
+package com.infnet.gatewaymodule.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded store of GET responses, indexed by the resource tags each response was built from so that a purge
+ * only visits the entries of the tags it invalidates. Purges are numbered: a response fetched before a purge of
+ * one of its tags cannot be stored after that purge has run.
+ */
+@Component
+public class ResponseCacheStore {
+
+    // Longer than any request can take, so a purge is still remembered when a response that predates it completes
+    private static final Duration PURGE_MEMORY = Duration.ofMinutes(5);
+
+    private final Cache<String, Entry> cache;
+    private final Map<String, Set<String>> keysByTag = new ConcurrentHashMap<>();
+    private final Cache<String, Long> lastPurges;
+    private final AtomicLong purges = new AtomicLong();
+
+    public ResponseCacheStore(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.response().body().length)
+                .expireAfter(new TtlExpiry())
+                .removalListener(this::unindex)
+                .recordStats()
+                .build();
+        this.lastPurges = Caffeine.newBuilder()
+                .expireAfterWrite(PURGE_MEMORY)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-responses");
+    }
+
+    public String key(String routeId, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return routeId + ' ' + request.getURI().getRawPath()
+                + (query != null ? '?' + query : "")
+                + ' ' + (accept != null ? accept : "");
+    }
+
+    public CachedResponse get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.response() : null;
+    }
+
+    /**
+     * Taken before a response is fetched and handed back to {@link #put}.
+     */
+    public long generation() {
+        return purges.get();
+    }
+
+    public void put(Set<String> tags, long generation, String key, CachedResponse response) {
+        if (purgedSince(tags, generation)) {
+            return;
+        }
+        cache.put(key, new Entry(response, tags));
+        for (String tag : tags) {
+            // Added under the map's lock so the listener cannot drop the set as empty just before the add
+            keysByTag.compute(tag, (t, keys) -> {
+                Set<String> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                indexed.add(key);
+                return indexed;
+            });
+        }
+        // A purge may have slipped in before the key was indexed
+        if (purgedSince(tags, generation)) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void purge(Set<String> tags) {
+        long purge = purges.incrementAndGet();
+        for (String tag : tags) {
+            lastPurges.put(tag, purge);
+            Set<String> keys = keysByTag.remove(tag);
+            if (keys != null) {
+                cache.invalidateAll(keys);
+            }
+        }
+    }
+
+    private boolean purgedSince(Set<String> tags, long generation) {
+        for (String tag : tags) {
+            Long lastPurge = lastPurges.getIfPresent(tag);
+            if (lastPurge != null && lastPurge > generation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void unindex(String key, Entry entry, RemovalCause cause) {
+        // A replacement has the same key and so the same tags; the key stays indexed
+        if (key == null || entry == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        for (String tag : entry.tags()) {
+            keysByTag.computeIfPresent(tag, (t, keys) -> {
+                // The listener runs asynchronously: the key may have been stored again in the meantime
+                if (!cache.asMap().containsKey(key)) {
+                    keys.remove(key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private record Entry(CachedResponse response, Set<String> tags) {
+    }
+
+    private static class TtlExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.response().ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.response().ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
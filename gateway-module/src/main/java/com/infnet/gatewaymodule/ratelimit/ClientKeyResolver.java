@@ -0,0 +1,49 @@
+package com.infnet.gatewaymodule.ratelimit;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Identifies the client a request counts against: its API key when it sends one, otherwise its IP address.
+ */
+@Component
+public class ClientKeyResolver implements KeyResolver {
+
+    private final RateLimitProperties properties;
+
+    public ClientKeyResolver(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        String apiKey = request.getHeaders().getFirst(properties.getApiKeyHeader());
+        if (StringUtils.hasText(apiKey)) {
+            return Mono.just("key:" + apiKey.trim());
+        }
+
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                return Mono.just("ip:" + forwardedFor.split(",")[0].trim());
+            }
+        }
+
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return Mono.empty();
+        }
+        return Mono.just("ip:" + (remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString()));
+    }
+
+}
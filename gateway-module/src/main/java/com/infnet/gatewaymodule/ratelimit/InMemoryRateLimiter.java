@@ -0,0 +1,132 @@
+package com.infnet.gatewaymodule.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Token-bucket {@code RequestRateLimiter} backed by an in-process store instead of Redis. Each route and client
+ * gets its own bucket, configured per route through {@code in-memory-rate-limiter.*} filter arguments. Limits are
+ * per gateway instance.
+ */
+@Component
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public InMemoryRateLimiter(ConfigurationService configurationService, RateLimitProperties properties,
+                               MeterRegistry meterRegistry) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "gateway-rate-limit-buckets");
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, properties.getDefaults());
+        TokenBucket bucket = buckets.get(routeId + ' ' + id, key -> new TokenBucket(config.getBurstCapacity()));
+
+        long remaining = bucket.tryConsume(config, System.nanoTime());
+        boolean allowed = remaining >= 0;
+        if (!allowed) {
+            meterRegistry.counter("gateway.requests.rejected", "route", routeId, "reason", "rate-limit").increment();
+        }
+
+        return Mono.just(new Response(allowed, Map.of(
+                REMAINING_HEADER, String.valueOf(Math.max(remaining, 0)),
+                REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+                BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()),
+                REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens()))));
+    }
+
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(int burstCapacity) {
+            this.tokens = burstCapacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        /**
+         * @return tokens left after taking the request's share, or -1 if there were not enough
+         */
+        private synchronized long tryConsume(Config config, long now) {
+            double refill = (now - refilledAt) / 1e9 * config.getReplenishRate();
+            tokens = Math.min(config.getBurstCapacity(), tokens + refill);
+            refilledAt = now;
+
+            if (tokens < config.getRequestedTokens()) {
+                return -1;
+            }
+            tokens -= config.getRequestedTokens();
+            return (long) tokens;
+        }
+
+    }
+
+    public static class Config {
+
+        /**
+         * Tokens added to a bucket per second: the sustained request rate of one client.
+         */
+        private int replenishRate = 100;
+
+        /**
+         * Bucket size: the burst a client may send on top of the sustained rate.
+         */
+        private int burstCapacity = 200;
+
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public void setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public void setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public void setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+        }
+
+    }
+
+}
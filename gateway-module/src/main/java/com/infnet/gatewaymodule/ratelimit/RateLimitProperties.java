@@ -0,0 +1,75 @@
+package com.infnet.gatewaymodule.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Header identifying the calling client. Requests without it are limited per IP address.
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * Use the first {@code X-Forwarded-For} address as the client IP. Only safe behind a proxy that sets it.
+     */
+    private boolean trustForwardedFor = false;
+
+    /**
+     * Buckets kept at most; the least recently used clients are dropped first.
+     */
+    private long maxClients = 100_000;
+
+    /**
+     * A client's bucket is dropped after this long without requests, by which time it would be full again anyway.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Limits for routes that use the rate limiter without {@code in-memory-rate-limiter.*} arguments.
+     */
+    private InMemoryRateLimiter.Config defaults = new InMemoryRateLimiter.Config();
+
+    public String getApiKeyHeader() {
+        return apiKeyHeader;
+    }
+
+    public void setApiKeyHeader(String apiKeyHeader) {
+        this.apiKeyHeader = apiKeyHeader;
+    }
+
+    public boolean isTrustForwardedFor() {
+        return trustForwardedFor;
+    }
+
+    public void setTrustForwardedFor(boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public long getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(long maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public InMemoryRateLimiter.Config getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(InMemoryRateLimiter.Config defaults) {
+        this.defaults = defaults;
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.infnet.gatewaymodule.shedding;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Rejects requests with an immediate 503 once a route has too many in flight. The limit adapts to the route's
+ * smoothed downstream latency: it is {@code max-in-flight} while the latency is within target and shrinks in
+ * proportion when it is not, so a slow service gets fewer concurrent requests instead of a growing queue.
+ * <p>
+ * Runs right before load balancing, after the route filters, so rate-limited requests and cache hits are never
+ * counted against the downstream. Handlers outside the gateway routes go through {@link #limit}.
+ */
+@Component
+public class LoadSheddingFilter implements GlobalFilter, Ordered {
+
+    private final LoadSheddingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteLoad> routes = new ConcurrentHashMap<>();
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        RouteLoad load = routes.computeIfAbsent(route.getId(), this::register);
+        if (!load.tryAcquire()) {
+            countRejected(route.getId());
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return exchange.getResponse().setComplete();
+        }
+
+        // Latency is sampled when the headers go out: a streamed body can stay open long after the downstream answered
+        Sample sample = new Sample(load);
+        exchange.getResponse().beforeCommit(() -> {
+            sample.record();
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    sample.record();
+                    load.release();
+                });
+    }
+
+    /**
+     * Applies the same adaptive limit to a handler served outside the gateway routes. The handler's latency is
+     * sampled when it emits its response, before the body is written.
+     *
+     * @param call     the handler, subscribed only if the request is admitted
+     * @param rejected the response given instead when the route is over its limit
+     */
+    public <T> Mono<T> limit(String routeId, Supplier<Mono<T>> call, Supplier<Mono<T>> rejected) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+
+        RouteLoad load = routes.computeIfAbsent(routeId, this::register);
+        if (!load.tryAcquire()) {
+            countRejected(routeId);
+            return rejected.get();
+        }
+
+        Sample sample = new Sample(load);
+        return Mono.defer(call)
+                .doFinally(signal -> {
+                    sample.record();
+                    load.release();
+                });
+    }
+
+    private void countRejected(String routeId) {
+        meterRegistry.counter("gateway.requests.rejected", "route", routeId, "reason", "overload").increment();
+    }
+
+    private RouteLoad register(String routeId) {
+        RouteLoad load = new RouteLoad();
+        Gauge.builder("gateway.requests.in.flight", load.inFlight, AtomicInteger::get)
+                .description("Requests currently forwarded to the route's downstream")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.requests.in.flight.limit", load, RouteLoad::limit)
+                .description("Current adaptive in-flight limit of the route")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.downstream.latency.smoothed", load, route -> route.smoothedLatencyNanos / 1e6)
+                .description("Smoothed downstream latency of the route in milliseconds")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return load;
+    }
+
+    private class RouteLoad {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double smoothedLatencyNanos;
+
+        private boolean tryAcquire() {
+            int limit = limit();
+            while (true) {
+                int current = inFlight.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+        }
+
+        private void sample(long latencyNanos) {
+            synchronized (this) {
+                smoothedLatencyNanos = smoothedLatencyNanos == 0
+                        ? latencyNanos
+                        : smoothedLatencyNanos + properties.getSmoothing() * (latencyNanos - smoothedLatencyNanos);
+            }
+        }
+
+        private int limit() {
+            double target = properties.getLatencyTarget().toNanos();
+            double latency = smoothedLatencyNanos;
+            if (latency <= target) {
+                return properties.getMaxInFlight();
+            }
+            return Math.max(properties.getMinInFlight(), (int) (properties.getMaxInFlight() * target / latency));
+        }
+
+    }
+
+    private static final class Sample {
+
+        private final RouteLoad load;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private Sample(RouteLoad load) {
+            this.load = load;
+        }
+
+        private void record() {
+            if (recorded.compareAndSet(false, true)) {
+                load.sample(System.nanoTime() - startedAt);
+            }
+        }
+
+    }
+
+}
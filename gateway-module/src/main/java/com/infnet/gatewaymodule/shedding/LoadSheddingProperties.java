@@ -0,0 +1,72 @@
+package com.infnet.gatewaymodule.shedding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * In-flight requests a route may have while its downstream answers within the latency target.
+     */
+    private int maxInFlight = 256;
+
+    /**
+     * Floor for the in-flight limit however slow the downstream gets, so latency keeps being sampled.
+     */
+    private int minInFlight = 8;
+
+    /**
+     * Above this smoothed latency the in-flight limit shrinks in proportion.
+     */
+    private Duration latencyTarget = Duration.ofMillis(500);
+
+    /**
+     * Weight of the newest sample in the smoothed latency, between 0 and 1.
+     */
+    private double smoothing = 0.2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getMinInFlight() {
+        return minInFlight;
+    }
+
+    public void setMinInFlight(int minInFlight) {
+        this.minInFlight = minInFlight;
+    }
+
+    public Duration getLatencyTarget() {
+        return latencyTarget;
+    }
+
+    public void setLatencyTarget(Duration latencyTarget) {
+        this.latencyTarget = latencyTarget;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+}
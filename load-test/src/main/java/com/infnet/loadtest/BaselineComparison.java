@@ -0,0 +1,53 @@
+package com.infnet.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares a run against a baseline run of the same traffic mix. Latency percentiles and successful throughput
+ * may drift by the given relative tolerance. The error rate is checked on its own: it may rise by at most the
+ * given allowance, in absolute terms, whatever happened to latency and throughput.
+ */
+final class BaselineComparison {
+
+    private BaselineComparison() {
+    }
+
+    static List<String> regressions(LoadTestReport baseline, LoadTestReport current, double tolerance,
+                                    double errorRateAllowance) {
+        List<String> regressions = new ArrayList<>();
+
+        for (RouteReport expected : baseline.routes()) {
+            RouteReport actual = current.route(expected.route());
+            if (actual == null) {
+                regressions.add(expected.route() + ": not exercised in this run");
+                continue;
+            }
+
+            checkAtMost(regressions, expected.route(), "p95", expected.p95Millis(), actual.p95Millis(),
+                    expected.p95Millis() * (1 + tolerance));
+            checkAtMost(regressions, expected.route(), "p99", expected.p99Millis(), actual.p99Millis(),
+                    expected.p99Millis() * (1 + tolerance));
+            checkAtMost(regressions, expected.route(), "error rate", expected.errorRate(), actual.errorRate(),
+                    expected.errorRate() + errorRateAllowance);
+
+            double minThroughput = expected.throughput() * (1 - tolerance);
+            if (actual.throughput() < minThroughput) {
+                regressions.add(String.format(Locale.ROOT, "%s: throughput %.1f req/s is below %.1f (baseline %.1f)",
+                        expected.route(), actual.throughput(), minThroughput, expected.throughput()));
+            }
+        }
+
+        return regressions;
+    }
+
+    private static void checkAtMost(List<String> regressions, String route, String metric,
+                                    double baseline, double actual, double limit) {
+        if (actual > limit) {
+            regressions.add(String.format(Locale.ROOT, "%s: %s %.3f is above %.3f (baseline %.3f)",
+                    route, metric, actual, limit, baseline));
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.infnet.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started on a schedule derived from the target rate, whether or not
+ * earlier ones have completed, so a slow system faces a growing backlog exactly as it would on registration day.
+ * Latency is measured from the scheduled start, which keeps queueing inside the generator from hiding the
+ * system's own delay. Requests scheduled during warmup are sent but not recorded.
+ */
+final class LoadGenerator {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoadTestOptions options;
+    private final String gatewayUrl;
+    private final List<Long> studentIds;
+    private final String courseName;
+    private final HttpClient httpClient;
+    private final Map<TrafficRoute, RouteRecorder> recorders = new EnumMap<>(TrafficRoute.class);
+    private final TrafficRoute[] weightedRoutes;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    LoadGenerator(LoadTestOptions options, String gatewayUrl, List<Long> studentIds, String courseName) {
+        this.options = options;
+        this.gatewayUrl = gatewayUrl;
+        this.studentIds = studentIds;
+        this.courseName = courseName;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(options.requestTimeout())
+                .build();
+        this.weightedRoutes = options.mix().entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(TrafficRoute[]::new);
+        options.mix().keySet().forEach(route -> recorders.put(route, new RouteRecorder(route)));
+    }
+
+    Map<TrafficRoute, RouteRecorder> run() throws InterruptedException {
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup().toNanos();
+        long endAt = startedAt + options.total().toNanos();
+        long previous = startedAt;
+        double due = 0;
+
+        while (true) {
+            long now = System.nanoTime();
+            if (now >= endAt) {
+                break;
+            }
+
+            due += options.rateAt(Duration.ofNanos(now - startedAt)) * (now - previous) / 1e9;
+            previous = now;
+
+            // Spread the requests that fell due during the last tick over that tick
+            int count = (int) due;
+            due -= count;
+            for (int i = 0; i < count; i++) {
+                long scheduledAt = now - (count - 1 - i) * TICK_NANOS / Math.max(count, 1);
+                send(pickRoute(), scheduledAt, scheduledAt >= measureFrom);
+            }
+
+            LockSupport.parkNanos(TICK_NANOS);
+        }
+
+        awaitInFlight();
+        return recorders;
+    }
+
+    private void send(TrafficRoute route, long scheduledAt, boolean measured) {
+        RouteRecorder recorder = recorders.get(route);
+        if (inFlight.get() >= options.maxInFlight()) {
+            if (measured) {
+                recorder.recordDropped();
+            }
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request(route), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (!measured) {
+                        return;
+                    }
+                    long latency = System.nanoTime() - scheduledAt;
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        String outcome = cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+                        recorder.record(latency, outcome, true);
+                    } else {
+                        int status = response.statusCode();
+                        recorder.record(latency, String.valueOf(status), isError(route, status));
+                    }
+                });
+    }
+
+    private HttpRequest request(TrafficRoute route) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long studentId = studentIds.get(random.nextInt(studentIds.size()));
+        // Each virtual client has its own API key, so the gateway rate limits it like a real user
+        String apiKey = "load-test-client-" + random.nextInt(options.clients());
+
+        HttpRequest.Builder builder = switch (route) {
+            case STUDENT_LOOKUP -> HttpRequest.newBuilder(URI.create(gatewayUrl + "/api/students/" + studentId)).GET();
+            case ENROLLMENT_LISTING -> HttpRequest.newBuilder(URI.create(gatewayUrl + "/api/enrollments/student/" + studentId)).GET();
+            case ENROLLMENT_CREATION -> HttpRequest.newBuilder(URI.create(gatewayUrl + "/api/enrollments"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"studentId\":" + studentId + ",\"courseName\":\""
+                            + (courseName != null ? courseName : "Course " + random.nextInt(50)) + "\"}"));
+        };
+
+        return builder
+                .header("X-API-Key", apiKey)
+                .timeout(options.requestTimeout())
+                .build();
+    }
+
+    private TrafficRoute pickRoute() {
+        return weightedRoutes[ThreadLocalRandom.current().nextInt(weightedRoutes.length)];
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + options.requestTimeout().toNanos() * 2;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private static boolean isError(TrafficRoute route, int status) {
+        if (status >= 200 && status < 300) {
+            return false;
+        }
+        // A full course is the expected answer once registration day has used up the seats
+        return !(route == TrafficRoute.ENROLLMENT_CREATION && status == 409);
+    }
+
+}
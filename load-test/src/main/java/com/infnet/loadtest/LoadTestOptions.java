@@ -0,0 +1,145 @@
+package com.infnet.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options, all given as {@code --name=value}.
+ */
+record LoadTestOptions(
+        String gatewayUrl,
+        Path studentJar,
+        Path enrollmentJar,
+        Path gatewayJar,
+        Path serviceJava,
+        String jvmArgs,
+        String serviceProfiles,
+        String compareProfiles,
+        int students,
+        int clients,
+        Map<TrafficRoute, Integer> mix,
+        int courseCapacity,
+        double baseRate,
+        double peakRate,
+        Duration warmup,
+        Duration rampUp,
+        Duration hold,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path result,
+        Path baseline,
+        double tolerance,
+        double errorRateAllowance) {
+
+    private static final Set<String> NAMES = Set.of(
+            "gateway-url", "student-jar", "enrollment-jar", "gateway-jar", "service-java", "jvm-args",
+            "service-profiles", "compare-profiles", "students", "clients", "mix",
+            "course-capacity", "base-rate", "peak-rate", "warmup", "ramp-up", "hold", "max-in-flight",
+            "request-timeout", "result", "baseline", "tolerance", "error-rate-allowance");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        List<String> unknown = values.keySet().stream()
+                .filter(name -> !NAMES.contains(name))
+                .sorted()
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + unknown);
+        }
+
+        return new LoadTestOptions(
+                values.get("gateway-url"),
+                Path.of(values.getOrDefault("student-jar", "student-module/target/student-module-0.0.1-SNAPSHOT-exec.jar")),
+                Path.of(values.getOrDefault("enrollment-jar", "enrollment-module/target/enrollment-module-0.0.1-SNAPSHOT-exec.jar")),
+                Path.of(values.getOrDefault("gateway-jar", "gateway-module/target/gateway-module-0.0.1-SNAPSHOT.jar")),
+                Path.of(values.getOrDefault("service-java",
+                        Path.of(System.getProperty("java.home"), "bin", "java").toString())),
+                values.getOrDefault("jvm-args", "-Xms256m -Xmx512m"),
+                values.get("service-profiles"),
+                values.get("compare-profiles"),
+                Integer.parseInt(values.getOrDefault("students", "1000")),
+                Integer.parseInt(values.getOrDefault("clients", "500")),
+                parseMix(values.getOrDefault("mix", "student-lookup=60,enrollment-listing=30,enrollment-creation=10")),
+                Integer.parseInt(values.getOrDefault("course-capacity", "0")),
+                Double.parseDouble(values.getOrDefault("base-rate", "50")),
+                Double.parseDouble(values.getOrDefault("peak-rate", "500")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("ramp-up", "20s")),
+                duration(values.getOrDefault("hold", "60s")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                duration(values.getOrDefault("request-timeout", "5s")),
+                Path.of(values.getOrDefault("result", "target/load-test-result.json")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("tolerance", "0.2")),
+                Double.parseDouble(values.getOrDefault("error-rate-allowance", "0.01")));
+    }
+
+    /**
+     * The same run with the services started under other Spring profiles.
+     */
+    LoadTestOptions withServiceProfiles(String profiles) {
+        return new LoadTestOptions(gatewayUrl, studentJar, enrollmentJar, gatewayJar, serviceJava, jvmArgs, profiles,
+                compareProfiles, students, clients, mix, courseCapacity, baseRate, peakRate, warmup, rampUp, hold,
+                maxInFlight, requestTimeout, result, baseline, tolerance, errorRateAllowance);
+    }
+
+    /**
+     * Target request rate at the given time since start: the base rate during warmup, then a linear ramp to the
+     * peak rate, which is held until the end.
+     */
+    double rateAt(Duration elapsed) {
+        if (elapsed.compareTo(warmup) < 0) {
+            return baseRate;
+        }
+        Duration sinceWarmup = elapsed.minus(warmup);
+        if (sinceWarmup.compareTo(rampUp) < 0) {
+            double progress = (double) sinceWarmup.toNanos() / rampUp.toNanos();
+            return baseRate + (peakRate - baseRate) * progress;
+        }
+        return peakRate;
+    }
+
+    Duration total() {
+        return warmup.plus(rampUp).plus(hold);
+    }
+
+    private static Duration duration(String value) {
+        // Accepts the same shorthand as Spring properties: 500ms, 30s, 2m
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+
+    private static Map<TrafficRoute, Integer> parseMix(String mix) {
+        Map<TrafficRoute, Integer> weights = new EnumMap<>(TrafficRoute.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected route=weight in traffic mix but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(TrafficRoute.fromId(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix has no route with a positive weight");
+        }
+        return weights;
+    }
+
+}
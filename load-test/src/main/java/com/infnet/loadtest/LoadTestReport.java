@@ -0,0 +1,20 @@
+package com.infnet.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+record LoadTestReport(
+        Instant startedAt,
+        double measuredSeconds,
+        Map<String, Object> settings,
+        List<RouteReport> routes) {
+
+    RouteReport route(String id) {
+        return routes.stream()
+                .filter(route -> route.route().equals(id))
+                .findFirst()
+                .orElse(null);
+    }
+
+}
@@ -0,0 +1,270 @@
+package com.infnet.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Replays registration-day traffic through the gateway: a warmup at the base rate, a ramp to the peak rate and
+ * a hold at the peak, with a weighted mix of student lookups, enrollment listings and enrollment creations sent
+ * by many API keys. Prints successful throughput, latency percentiles and error rate per route, writes them as
+ * JSON and, when given a baseline, exits with status 1 if any route regressed beyond the tolerance or its error
+ * rate rose by more than {@code --error-rate-allowance}.
+ *
+ * <pre>
+ * mvn -P load-test package -DskipTests
+ * java -jar load-test/target/load-test.jar --peak-rate=800 --course-capacity=300 --result=before.json
+ * java -jar load-test/target/load-test.jar --peak-rate=800 --course-capacity=300 --baseline=before.json
+ * </pre>
+ *
+ * With {@code --gateway-url} the run targets an already running environment instead of starting one.
+ * {@code --compare-profiles} instead runs the traffic twice on fresh services, the second time with the given
+ * Spring profiles added, and fails if that run regressed against the first. Comparing platform threads with
+ * virtual threads needs a Java 21 runtime for the services:
+ *
+ * <pre>
+ * mvn -P load-test package -DskipTests
+ * java -jar load-test/target/load-test.jar --service-java=/opt/jdk-21/bin/java --compare-profiles=virtual-threads
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private static final String CAPPED_COURSE = "Registration Day";
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        if (options.compareProfiles() != null) {
+            compare(options, objectMapper);
+            return;
+        }
+
+        LoadTestReport report = run(options, objectMapper);
+        print(report);
+        write(objectMapper, report, options.result());
+
+        if (options.baseline() != null) {
+            LoadTestReport baseline = objectMapper.readValue(options.baseline().toFile(), LoadTestReport.class);
+            checkRegressions(baseline, report, options.baseline().toString(), options);
+        }
+    }
+
+    /**
+     * Runs the same traffic twice on fresh services, first under the {@code --service-profiles} and then with the
+     * {@code --compare-profiles} added, and holds the second run to the first as its baseline.
+     */
+    private static void compare(LoadTestOptions options, ObjectMapper objectMapper) throws Exception {
+        if (options.gatewayUrl() != null || options.baseline() != null) {
+            throw new IllegalArgumentException(
+                    "--compare-profiles starts the services itself and is its own baseline; drop --gateway-url and --baseline");
+        }
+        LoadTestOptions candidate = options.withServiceProfiles(options.serviceProfiles() != null
+                ? options.serviceProfiles() + "," + options.compareProfiles()
+                : options.compareProfiles());
+
+        System.out.println("Reference run, profiles: " + profiles(options));
+        LoadTestReport reference = run(options, objectMapper);
+        print(reference);
+        Path referenceResult = options.result().resolveSibling(
+                options.result().getFileName().toString().replaceFirst("(\\.json)?$", "-reference.json"));
+        write(objectMapper, reference, referenceResult);
+
+        System.out.println("Candidate run, profiles: " + profiles(candidate));
+        LoadTestReport report = run(candidate, objectMapper);
+        print(report);
+        write(objectMapper, report, options.result());
+
+        printComparison(reference, report);
+        checkRegressions(reference, report, "profiles " + profiles(options), options);
+    }
+
+    private static LoadTestReport run(LoadTestOptions options, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        if (options.gatewayUrl() != null) {
+            return run(options, options.gatewayUrl(), objectMapper);
+        }
+        try (ServiceStack stack = ServiceStack.start(options)) {
+            return run(options, stack.gatewayUrl(), objectMapper);
+        }
+    }
+
+    private static void write(ObjectMapper objectMapper, LoadTestReport report, Path result) throws IOException {
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        objectMapper.writeValue(result.toFile(), report);
+        System.out.println("Results written to " + result);
+    }
+
+    private static void checkRegressions(LoadTestReport baseline, LoadTestReport report, String against,
+                                         LoadTestOptions options) {
+        List<String> regressions = BaselineComparison.regressions(baseline, report, options.tolerance(),
+                options.errorRateAllowance());
+        if (!regressions.isEmpty()) {
+            System.out.println("Regressions against " + against + ":");
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+        System.out.println("No regressions against " + against);
+    }
+
+    private static LoadTestReport run(LoadTestOptions options, String gatewayUrl, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        List<Long> studentIds = seedStudents(httpClient, objectMapper, gatewayUrl, options.students(), runId);
+        String courseName = null;
+        if (options.courseCapacity() > 0) {
+            courseName = CAPPED_COURSE + " " + runId;
+            createCourse(httpClient, objectMapper, gatewayUrl, courseName, options.courseCapacity());
+        }
+
+        Instant startedAt = Instant.now();
+        Map<TrafficRoute, RouteRecorder> recorders =
+                new LoadGenerator(options, gatewayUrl, studentIds, courseName).run();
+
+        double measuredSeconds = options.rampUp().plus(options.hold()).toMillis() / 1000.0;
+        List<RouteReport> routes = recorders.values().stream()
+                .map(recorder -> recorder.report(measuredSeconds))
+                .toList();
+
+        return new LoadTestReport(startedAt, measuredSeconds, settings(options), routes);
+    }
+
+    private static List<Long> seedStudents(HttpClient httpClient, ObjectMapper objectMapper, String gatewayUrl,
+                                           int count, String runId) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += SEED_BATCH_SIZE) {
+            ArrayNode batch = objectMapper.createArrayNode();
+            for (int i = offset; i < Math.min(count, offset + SEED_BATCH_SIZE); i++) {
+                batch.addObject()
+                        .put("name", "Load Test Student " + i)
+                        .put("email", "load-" + runId + "-" + i + "@example.com")
+                        .put("cpf", cpf(runId, i))
+                        .put("birthDate", LocalDate.of(2000, 1, 1).plusDays(i % 3650).toString());
+            }
+
+            JsonNode response = post(httpClient, objectMapper, gatewayUrl + "/api/students/bulk", batch);
+            for (JsonNode result : response.path("results")) {
+                if (result.hasNonNull("id")) {
+                    ids.add(result.get("id").asLong());
+                }
+            }
+        }
+
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No students could be created for the load test");
+        }
+        System.out.println("Seeded " + ids.size() + " students");
+        return ids;
+    }
+
+    private static void createCourse(HttpClient httpClient, ObjectMapper objectMapper, String gatewayUrl,
+                                     String name, int capacity) throws IOException, InterruptedException {
+        post(httpClient, objectMapper, gatewayUrl + "/api/courses", objectMapper.createObjectNode()
+                .put("name", name)
+                .put("capacity", capacity));
+        System.out.println("Created course '" + name + "' with " + capacity + " seats");
+    }
+
+    private static JsonNode post(HttpClient httpClient, ObjectMapper objectMapper, String url, JsonNode body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("X-API-Key", "load-test-setup")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("POST " + url + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static String cpf(String runId, int index) {
+        // Unique per run and student; the service only checks the format
+        long value = Math.floorMod((long) runId.hashCode() * 1_000_003L, 100_000L) * 1_000_000L + index;
+        return String.format(Locale.ROOT, "%011d", value);
+    }
+
+    private static Map<String, Object> settings(LoadTestOptions options) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("serviceProfiles", profiles(options));
+        settings.put("students", options.students());
+        settings.put("clients", options.clients());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((route, weight) -> mix.put(route.id(), weight));
+        settings.put("mix", mix);
+        settings.put("courseCapacity", options.courseCapacity());
+        settings.put("baseRate", options.baseRate());
+        settings.put("peakRate", options.peakRate());
+        settings.put("warmup", options.warmup().toString());
+        settings.put("rampUp", options.rampUp().toString());
+        settings.put("hold", options.hold().toString());
+        settings.put("maxInFlight", options.maxInFlight());
+        return settings;
+    }
+
+    private static String profiles(LoadTestOptions options) {
+        return options.serviceProfiles() != null ? options.serviceProfiles() : "default";
+    }
+
+    private static void printComparison(LoadTestReport reference, LoadTestReport candidate) {
+        System.out.printf(Locale.ROOT, "%-22s %-10s %12s %12s %9s%n", "route", "metric", "reference", "candidate", "change");
+        for (RouteReport before : reference.routes()) {
+            RouteReport after = candidate.route(before.route());
+            if (after == null) {
+                continue;
+            }
+            printChange(before.route(), "ok/s", before.throughput(), after.throughput());
+            printChange(before.route(), "p95 ms", before.p95Millis(), after.p95Millis());
+            printChange(before.route(), "p99 ms", before.p99Millis(), after.p99Millis());
+            printChange(before.route(), "errors %", before.errorRate() * 100, after.errorRate() * 100);
+        }
+        System.out.println();
+    }
+
+    private static void printChange(String route, String metric, double before, double after) {
+        String change = before != 0 ? String.format(Locale.ROOT, "%+8.1f%%", (after - before) / before * 100) : "-";
+        System.out.printf(Locale.ROOT, "%-22s %-10s %12.1f %12.1f %9s%n", route, metric, before, after, change);
+    }
+
+    private static void print(LoadTestReport report) {
+        System.out.printf(Locale.ROOT, "%n%-22s %9s %9s %9s %9s %9s %9s %9s %8s%n",
+                "route", "requests", "ok", "ok/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        for (RouteReport route : report.routes()) {
+            System.out.printf(Locale.ROOT, "%-22s %9d %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f%%%n",
+                    route.route(), route.requests(), route.successes(), route.throughput(), route.p50Millis(),
+                    route.p95Millis(), route.p99Millis(), route.maxMillis(), route.errorRate() * 100);
+            System.out.println("    " + route.outcomes());
+        }
+        System.out.println();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.infnet.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the outcome of every measured request of one route, and the latency of those that succeeded.
+ */
+final class RouteRecorder {
+
+    static final String DROPPED = "dropped";
+
+    private final TrafficRoute route;
+    private final Map<String, Long> outcomes = new TreeMap<>();
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    RouteRecorder(TrafficRoute route) {
+        this.route = route;
+    }
+
+    synchronized void record(long latencyNanos, String outcome, boolean error) {
+        outcomes.merge(outcome, 1L, Long::sum);
+        if (error) {
+            // A fast 429 or 503 is the gateway shedding load, not the system keeping up
+            errors++;
+            return;
+        }
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    /**
+     * A request the generator never sent because too many were already waiting. It counts as an error but has
+     * no latency.
+     */
+    synchronized void recordDropped() {
+        outcomes.merge(DROPPED, 1L, Long::sum);
+        errors++;
+    }
+
+    synchronized RouteReport report(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        long requests = outcomes.values().stream().mapToLong(Long::longValue).sum();
+
+        return new RouteReport(
+                route.id(),
+                requests,
+                count,
+                count / measuredSeconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99),
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0,
+                requests > 0 ? (double) errors / requests : 0,
+                new TreeMap<>(outcomes));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1e6;
+    }
+
+}
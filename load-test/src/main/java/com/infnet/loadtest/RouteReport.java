@@ -0,0 +1,21 @@
+package com.infnet.loadtest;
+
+import java.util.Map;
+
+/**
+ * Measured results of one route. Throughput and latency cover successful requests only, so shed or failed
+ * requests cannot make a run look faster; those show up in the error rate instead, which includes transport
+ * failures, dropped requests and every status other than 2xx, except the 409 a full course answers.
+ */
+record RouteReport(
+        String route,
+        long requests,
+        long successes,
+        double throughput,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        double errorRate,
+        Map<String, Long> outcomes) {
+}
@@ -0,0 +1,142 @@
+package com.infnet.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs student-service, enrollment-service and the gateway as separate JVMs from their executable jars, wired
+ * together with Spring Cloud's static discovery instead of Consul. Each service logs to
+ * {@code target/load-test-logs/<service>.log}. The services run on the {@code --service-java} runtime under the
+ * {@code --service-profiles} Spring profiles, if any.
+ */
+final class ServiceStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Path LOG_DIRECTORY = Path.of("target", "load-test-logs");
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Process> processes = new ArrayList<>();
+    private final int studentPort = freePort();
+    private final int enrollmentPort = freePort();
+    private final int gatewayPort = freePort();
+
+    private ServiceStack(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    static ServiceStack start(LoadTestOptions options) throws IOException, InterruptedException {
+        Files.createDirectories(LOG_DIRECTORY);
+        ServiceStack stack = new ServiceStack(options);
+        Runtime.getRuntime().addShutdownHook(new Thread(stack::close));
+
+        try {
+            stack.launch("student-service", options.studentJar(), stack.studentPort, "--grpc.server.port=0");
+            stack.launch("enrollment-service", options.enrollmentJar(), stack.enrollmentPort,
+                    "--student-projection.backfill-enabled=false");
+            stack.launch("api-gateway", options.gatewayJar(), stack.gatewayPort);
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            stack.close();
+            throw ex;
+        }
+        return stack;
+    }
+
+    String gatewayUrl() {
+        return "http://localhost:" + gatewayPort;
+    }
+
+    @Override
+    public void close() {
+        // Stop in reverse order so the gateway goes first and no request reaches a service that is shutting down
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException ex) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        processes.clear();
+    }
+
+    private void launch(String name, Path jar, int port, String... extraArguments)
+            throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Missing " + jar + ", build it first: mvn -P load-test package -DskipTests");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(options.serviceJava().toString());
+        command.addAll(Arrays.asList(options.jvmArgs().trim().split("\\s+")));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.cloud.consul.enabled=false");
+        command.add("--spring.cloud.discovery.client.simple.instances.student-service[0].uri=http://localhost:" + studentPort);
+        command.add("--spring.cloud.discovery.client.simple.instances.enrollment-service[0].uri=http://localhost:" + enrollmentPort);
+        command.add("--spring.jpa.show-sql=false");
+        command.add("--logging.level.root=WARN");
+        if (options.serviceProfiles() != null) {
+            command.add("--spring.profiles.active=" + options.serviceProfiles());
+        }
+        command.addAll(Arrays.asList(extraArguments));
+
+        Path log = LOG_DIRECTORY.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.add(process);
+
+        System.out.printf("Starting %s on port %d (log: %s)%n", name, port, log);
+        awaitHealthy(name, process, port);
+    }
+
+    private void awaitHealthy(String name, Process process, int port) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see its log");
+            }
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Still starting
+            }
+            Thread.sleep(500);
+        }
+
+        throw new IllegalStateException(name + " did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException ex) {
+            throw new IllegalStateException("No free port available", ex);
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.infnet.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The request kinds a registration day is made of, named as they appear in the traffic mix and the report.
+ */
+enum TrafficRoute {
+
+    STUDENT_LOOKUP("student-lookup"),
+    ENROLLMENT_LISTING("enrollment-listing"),
+    ENROLLMENT_CREATION("enrollment-creation");
+
+    private final String id;
+
+    TrafficRoute(String id) {
+        this.id = id;
+    }
+
+    String id() {
+        return id;
+    }
+
+    static TrafficRoute fromId(String id) {
+        return Arrays.stream(values())
+                .filter(route -> route.id.equals(id))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown route in traffic mix: " + id));
+    }
+
+}
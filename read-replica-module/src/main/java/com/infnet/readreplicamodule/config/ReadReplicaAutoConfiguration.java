@@ -0,0 +1,113 @@
+package com.infnet.readreplicamodule.config;
+
+import com.infnet.readreplicamodule.datasource.ReadReplicaJpaTransactionManager;
+import com.infnet.readreplicamodule.datasource.ReadReplicaRoutingDataSource;
+import com.infnet.readreplicamodule.datasource.ReadYourWritesFilter;
+import com.infnet.readreplicamodule.datasource.ReplicaHealthChecker;
+import com.infnet.readreplicamodule.datasource.ReplicaPool;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to the read replicas listed under {@code read-replicas} and everything else to
+ * the {@code spring.datasource} primary. The routing data source is wrapped in a
+ * {@link LazyConnectionDataSourceProxy}, because the transaction manager asks for a connection before the
+ * transaction is marked read-only, and Hibernate releases the connection after every transaction so that each
+ * transaction of a request is routed on its own. Runs before the Boot data source and JPA configurations, which
+ * back off from the beans defined here.
+ */
+@AutoConfiguration(before = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+@ConditionalOnProperty(prefix = "read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     ReadReplicaProperties properties,
+                                                                     MeterRegistry meterRegistry) {
+        List<ReplicaPool> replicas = properties.getReplicas().stream()
+                .map(replica -> new ReplicaPool(replica.getName(),
+                        replicaDataSource(properties, replica, meterRegistry)))
+                .toList();
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas, properties.getSelection(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new ReadReplicaJpaTransactionManager();
+        // Typed as TransactionManager to use the customize overload that is not deprecated
+        TransactionManager customized = transactionManager;
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(customized));
+        return transactionManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer readReplicaConnectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+                                                     ReadReplicaProperties properties) {
+        return new ReplicaHealthChecker(readReplicaRoutingDataSource, properties.getHealthCheckTimeout());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+        return new ReadYourWritesFilter(properties.getStickyWindow(), properties.getClientHeader());
+    }
+
+    private static HikariDataSource replicaDataSource(ReadReplicaProperties properties,
+                                                      ReadReplicaProperties.Replica replica,
+                                                      MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(properties.getPoolNamePrefix() + replica.getName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // A replica that is down at startup must not stop the service; it joins the rotation once it answers
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+}
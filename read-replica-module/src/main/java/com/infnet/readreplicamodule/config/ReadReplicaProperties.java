@@ -0,0 +1,53 @@
+package com.infnet.readreplicamodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private String clientHeader = "X-API-Key";
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Prefix of the replica pool names, which tag the Hikari metrics, so each service's pools stay apart.
+     */
+    private String poolNamePrefix = "replica-";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+
+    @Data
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.infnet.readreplicamodule.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps read-only transactions that may be served by a replica from filling the second-level cache. A replica can
+ * be behind the primary, and an entity loaded from it would otherwise be cached and served to every later
+ * transaction on this instance until it expires. Those transactions still read the cache, which only the primary
+ * fills.
+ */
+public class ReadReplicaJpaTransactionManager extends JpaTransactionManager {
+
+    // Hibernate 6 derives the cache mode of every find() from this property, so setting the session's CacheMode
+    // alone is not enough
+    private static final String CACHE_STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+
+        if (definition.isReadOnly() && !ReadRoutingContext.isPrimaryRequired()) {
+            EntityManager entityManager = currentEntityManager();
+            if (entityManager != null) {
+                entityManager.setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+            }
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        // With open-in-view the entity manager outlives the transaction, and the next one on it may be a write
+        EntityManager entityManager = currentEntityManager();
+        if (entityManager != null && entityManager.isOpen()
+                && entityManager.getProperties().get(CACHE_STORE_MODE) == CacheStoreMode.BYPASS) {
+            entityManager.setProperty(CACHE_STORE_MODE, CacheStoreMode.USE);
+        }
+
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private EntityManager currentEntityManager() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(
+                obtainEntityManagerFactory());
+        return holder != null ? holder.getEntityManager() : null;
+    }
+
+}
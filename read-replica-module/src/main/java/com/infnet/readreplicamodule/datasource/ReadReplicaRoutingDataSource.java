@@ -0,0 +1,130 @@
+package com.infnet.readreplicamodule.datasource;
+
+import com.infnet.readreplicamodule.config.ReadReplicaProperties.Selection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands read-only transactions a connection from a healthy read replica and everything else one from the
+ * primary. When no replica is healthy, or the chosen one fails to hand out a connection, the read goes to the
+ * primary; the replica only leaves the rotation if it could not be reached, not if its pool was just exhausted.
+ * It decides when the connection is requested, so it must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers that request until the
+ * transaction's read-only flag is known.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final Selection selection;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter fallbackReads;
+    private final Counter busyReads;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, Selection selection,
+                                       MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.replicaReads = readCounter(meterRegistry, "replica", "read-only");
+        this.primaryReads = readCounter(meterRegistry, "primary", "read-your-writes");
+        this.fallbackReads = readCounter(meterRegistry, "primary", "no-healthy-replica");
+        this.busyReads = readCounter(meterRegistry, "primary", "replica-busy");
+
+        this.replicas.forEach(replica -> Gauge
+                .builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .description("Whether the read replica currently serves reads")
+                .tag("replica", replica.getName())
+                .register(meterRegistry));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!isReadOnlyTransaction()) {
+            return primary.getConnection();
+        }
+        if (ReadRoutingContext.isPrimaryRequired()) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        ReplicaPool replica = select();
+        if (replica != null) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException ex) {
+                if (!replica.isConnectionFailure(ex)) {
+                    busyReads.increment();
+                    return primary.getConnection();
+                }
+                replica.markUnhealthy(ex);
+            }
+        }
+
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    public void checkReplicas(Duration timeout) {
+        replicas.forEach(replica -> replica.check(timeout));
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(ReplicaPool::close);
+    }
+
+    private ReplicaPool select() {
+        List<ReplicaPool> healthy = replicas.stream()
+                .filter(ReplicaPool::isHealthy)
+                .toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+
+        return switch (selection) {
+            case ROUND_ROBIN -> healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+            case LEAST_LOADED -> healthy.stream()
+                    .min(Comparator.comparingDouble(ReplicaPool::load))
+                    .orElseThrow();
+        };
+    }
+
+    private static boolean isReadOnlyTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.reads")
+                .description("Read-only transactions by the database that served them")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.infnet.readreplicamodule.datasource;
+
+/**
+ * Marks the current thread's work as needing the primary even for read-only transactions, for requests that
+ * write or that come from a client which wrote moments ago.
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+}
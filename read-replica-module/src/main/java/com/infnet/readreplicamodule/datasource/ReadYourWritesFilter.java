@@ -0,0 +1,87 @@
+package com.infnet.readreplicamodule.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Sends a client's reads to the primary for a short window after it writes, so it sees its own change even if
+ * the replicas have not replayed it yet. Writes are remembered per client on this instance; the time of the
+ * write is also returned in {@value #LAST_WRITE_HEADER}, so a client that echoes it gets the same guarantee
+ * from every instance.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration window;
+    private final String clientHeader;
+    private final Cache<String, Long> recentWriters;
+
+    public ReadYourWritesFilter(Duration window, String clientHeader) {
+        this.window = window;
+        this.clientHeader = clientHeader;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = clientKey(request);
+        long now = System.currentTimeMillis();
+
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            recentWriters.put(client, now);
+            response.setHeader(LAST_WRITE_HEADER, Long.toString(now));
+            ReadRoutingContext.requirePrimary();
+        } else if (recentWriters.getIfPresent(client) != null || wroteRecently(request, now)) {
+            ReadRoutingContext.requirePrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRoutingContext.clear();
+        }
+    }
+
+    private boolean wroteRecently(HttpServletRequest request, long now) {
+        String lastWrite = request.getHeader(LAST_WRITE_HEADER);
+        if (lastWrite == null) {
+            return false;
+        }
+
+        try {
+            return now - Long.parseLong(lastWrite.trim()) < window.toMillis();
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String client = request.getHeader(clientHeader);
+        if (client != null && !client.isBlank()) {
+            return client;
+        }
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            return forwardedFor.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.infnet.readreplicamodule.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Probes every replica on a fixed delay, returning recovered replicas to the rotation and taking out the ones
+ * that stopped answering before a read has to find out.
+ */
+public class ReplicaHealthChecker {
+
+    private final ReadReplicaRoutingDataSource routingDataSource;
+    private final Duration timeout;
+
+    public ReplicaHealthChecker(ReadReplicaRoutingDataSource routingDataSource, Duration timeout) {
+        this.routingDataSource = routingDataSource;
+        this.timeout = timeout;
+    }
+
+    @Scheduled(fixedDelayString = "${read-replicas.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        routingDataSource.checkReplicas(timeout);
+    }
+
+}
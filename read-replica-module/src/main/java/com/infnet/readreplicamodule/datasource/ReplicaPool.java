@@ -0,0 +1,96 @@
+package com.infnet.readreplicamodule.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Connection pool of one read replica and whether it is currently fit to serve reads.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private static final String CONNECTION_EXCEPTION_STATE_CLASS = "08";
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile boolean healthy = true;
+
+    public ReplicaPool(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Share of the pool's connections in use, so replicas of different sizes compare fairly.
+     */
+    double load() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool != null ? (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize() : 0;
+    }
+
+    void check(Duration timeout) {
+        boolean valid;
+        try (Connection connection = dataSource.getConnection()) {
+            valid = connection.isValid((int) Math.max(1, timeout.toSeconds()));
+        } catch (SQLException ex) {
+            if (!isConnectionFailure(ex)) {
+                // Every connection is busy: that says nothing about the replica itself
+                return;
+            }
+            valid = false;
+        }
+
+        if (valid != healthy) {
+            log.warn("Read replica {} is now {}", name, valid ? "healthy" : "unhealthy");
+        }
+        healthy = valid;
+    }
+
+    void markUnhealthy(SQLException cause) {
+        if (healthy) {
+            log.warn("Read replica {} failed to hand out a connection, routing reads elsewhere: {}",
+                    name, cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    /**
+     * Whether the replica could not be reached, as opposed to its pool being exhausted. Hikari reports both as a
+     * timeout and only attaches the connect error if an attempt failed before the timeout, which a driver that
+     * retries or a slow connect timeout prevents. So a timeout also counts as a failure whenever the pool still had
+     * room for another connection: it could only have timed out because the replica would not give it one.
+     */
+    boolean isConnectionFailure(SQLException ex) {
+        if (ex.getCause() instanceof SQLException || ex.getNextException() != null) {
+            return true;
+        }
+        if (ex.getSQLState() != null && ex.getSQLState().startsWith(CONNECTION_EXCEPTION_STATE_CLASS)) {
+            return true;
+        }
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null || pool.getActiveConnections() < dataSource.getMaximumPoolSize();
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+}
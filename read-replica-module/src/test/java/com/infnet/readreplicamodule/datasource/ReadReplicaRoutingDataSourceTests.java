@@ -0,0 +1,141 @@
+package com.infnet.readreplicamodule.datasource;
+
+import com.infnet.readreplicamodule.config.ReadReplicaProperties.Selection;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes reads over three H2 databases that each hold their own name in a {@code marker} table, so every read
+ * shows which database served it.
+ */
+class ReadReplicaRoutingDataSourceTests {
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    private HikariDataSource primary;
+    private ReplicaPool replicaA;
+    private ReplicaPool replicaB;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary", 4);
+        replicaA = new ReplicaPool("replica-a", database("replica-a", 2));
+        replicaB = new ReplicaPool("replica-b", database("replica-b", 2));
+        resources.add(replicaA);
+        resources.add(replicaB);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReadRoutingContext.clear();
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    void roundRobinAlternatesBetweenReplicas() {
+        ReadReplicaRoutingDataSource routing = routing(Selection.ROUND_ROBIN, replicaA, replicaB);
+
+        assertThat(List.of(readOnly(routing), readOnly(routing), readOnly(routing), readOnly(routing)))
+                .containsExactly("replica-a", "replica-b", "replica-a", "replica-b");
+    }
+
+    @Test
+    void leastLoadedPicksReplicaWithFewestConnectionsInUse() throws Exception {
+        ReadReplicaRoutingDataSource routing = routing(Selection.LEAST_LOADED, replicaA, replicaB);
+
+        try (Connection ignored = replicaA.getConnection()) {
+            assertThat(readOnly(routing)).isEqualTo("replica-b");
+            assertThat(readOnly(routing)).isEqualTo("replica-b");
+        }
+        try (Connection ignored = replicaB.getConnection()) {
+            assertThat(readOnly(routing)).isEqualTo("replica-a");
+        }
+    }
+
+    @Test
+    void writesAndPinnedReadsGoToPrimary() {
+        ReadReplicaRoutingDataSource routing = routing(Selection.ROUND_ROBIN, replicaA, replicaB);
+
+        assertThat(readWrite(routing)).isEqualTo("primary");
+
+        ReadRoutingContext.requirePrimary();
+        assertThat(readOnly(routing)).isEqualTo("primary");
+    }
+
+    @Test
+    void exhaustedReplicaPoolFallsBackWithoutLeavingRotation() throws Exception {
+        ReadReplicaRoutingDataSource routing = routing(Selection.ROUND_ROBIN, replicaA);
+
+        try (Connection first = replicaA.getConnection(); Connection second = replicaA.getConnection()) {
+            assertThat(readOnly(routing)).isEqualTo("primary");
+        }
+
+        assertThat(replicaA.isHealthy()).isTrue();
+        assertThat(readOnly(routing)).isEqualTo("replica-a");
+    }
+
+    @Test
+    void unreachableReplicaLeavesRotationUntilCheckedAgain() {
+        HikariDataSource unreachable = new HikariDataSource();
+        unreachable.setJdbcUrl("jdbc:h2:tcp://localhost:1/unreachable");
+        unreachable.setUsername("sa");
+        unreachable.setConnectionTimeout(250);
+        unreachable.setInitializationFailTimeout(-1);
+        ReplicaPool replica = new ReplicaPool("unreachable", unreachable);
+        resources.add(replica);
+        ReadReplicaRoutingDataSource routing = routing(Selection.ROUND_ROBIN, replica);
+
+        assertThat(readOnly(routing)).isEqualTo("primary");
+        assertThat(replica.isHealthy()).isFalse();
+    }
+
+    private ReadReplicaRoutingDataSource routing(Selection selection, ReplicaPool... replicas) {
+        return new ReadReplicaRoutingDataSource(primary, List.of(replicas), selection, new SimpleMeterRegistry());
+    }
+
+    private static String readOnly(ReadReplicaRoutingDataSource routing) {
+        return read(routing, true);
+    }
+
+    private static String readWrite(ReadReplicaRoutingDataSource routing) {
+        return read(routing, false);
+    }
+
+    private static String read(ReadReplicaRoutingDataSource routing, boolean readOnly) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private HikariDataSource database(String name, int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(250);
+        resources.add(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+}
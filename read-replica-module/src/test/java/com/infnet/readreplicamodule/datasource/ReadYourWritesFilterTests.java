@@ -0,0 +1,126 @@
+package com.infnet.readreplicamodule.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+/**
+ * Sends requests through the filter to a controller that answers with the database its reads would use.
+ */
+class ReadYourWritesFilterTests {
+
+    private static final Duration WINDOW = Duration.ofMillis(300);
+    private static final String CLIENT_HEADER = "X-API-Key";
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new RoutingController())
+                .addFilters(new ReadYourWritesFilter(WINDOW, CLIENT_HEADER))
+                .build();
+    }
+
+    @Test
+    void readsGoToReplicaWithoutRecentWrite() throws Exception {
+        read("client-a").andExpect(content().string("replica"));
+    }
+
+    @Test
+    void writesGoToPrimaryAndReturnTheirTime() throws Exception {
+        mockMvc.perform(post("/route").header(CLIENT_HEADER, "client-a"))
+                .andExpect(content().string("primary"))
+                .andExpect(header().exists(ReadYourWritesFilter.LAST_WRITE_HEADER));
+
+        assertThat(ReadRoutingContext.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    void readsStayOnPrimaryForTheWriterDuringTheWindow() throws Exception {
+        mockMvc.perform(post("/route").header(CLIENT_HEADER, "client-a"));
+
+        read("client-a").andExpect(content().string("primary"));
+        read("client-b").andExpect(content().string("replica"));
+    }
+
+    @Test
+    void readsReturnToReplicaAfterTheWindow() throws Exception {
+        mockMvc.perform(post("/route").header(CLIENT_HEADER, "client-a"));
+
+        Thread.sleep(WINDOW.toMillis() + 100);
+
+        read("client-a").andExpect(content().string("replica"));
+    }
+
+    @Test
+    void echoedLastWriteGoesToPrimaryFromAnyInstance() throws Exception {
+        String lastWrite = Long.toString(System.currentTimeMillis());
+
+        mockMvc.perform(get("/route")
+                        .header(CLIENT_HEADER, "client-c")
+                        .header(ReadYourWritesFilter.LAST_WRITE_HEADER, lastWrite))
+                .andExpect(content().string("primary"));
+
+        String expired = Long.toString(System.currentTimeMillis() - WINDOW.toMillis() - 1);
+        mockMvc.perform(get("/route")
+                        .header(CLIENT_HEADER, "client-c")
+                        .header(ReadYourWritesFilter.LAST_WRITE_HEADER, expired))
+                .andExpect(content().string("replica"));
+    }
+
+    @Test
+    void clientsWithoutKeyAreTrackedByAddress() throws Exception {
+        mockMvc.perform(post("/route").with(request -> {
+            request.setRemoteAddr("10.0.0.1");
+            return request;
+        }));
+
+        mockMvc.perform(get("/route").with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                }))
+                .andExpect(content().string("primary"));
+        mockMvc.perform(get("/route").with(request -> {
+                    request.setRemoteAddr("10.0.0.2");
+                    return request;
+                }))
+                .andExpect(content().string("replica"));
+    }
+
+    private ResultActions read(String client) throws Exception {
+        return mockMvc.perform(get("/route").header(CLIENT_HEADER, client));
+    }
+
+    @RestController
+    static class RoutingController {
+
+        @GetMapping("/route")
+        String read() {
+            return target();
+        }
+
+        @PostMapping("/route")
+        String write() {
+            return target();
+        }
+
+        private static String target() {
+            return ReadRoutingContext.isPrimaryRequired() ? "primary" : "replica";
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.infnet.studentmodule.client;
+
+import com.infnet.studentmodule.dto.StudentEventDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+@Component
+@Slf4j
+public class EnrollmentClient {
+
+    private static final String SERVICE_ID = "enrollment-service";
+
+    private final RestClient restClient;
+    private final RestClient instanceClient;
+    private final DiscoveryClient discoveryClient;
+
+    public EnrollmentClient(@LoadBalanced RestClient.Builder restClientBuilder, DiscoveryClient discoveryClient) {
+        this.restClient = restClientBuilder
+                .baseUrl("http://" + SERVICE_ID)
+                .build();
+        this.instanceClient = RestClient.create();
+        this.discoveryClient = discoveryClient;
+    }
+
+    public void publishStudentEvents(List<StudentEventDTO> events) {
+        restClient.post()
+                .uri("/internal/student-events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    /**
+     * Drops the given students from the cache of every Enrollment Service instance registered in discovery; the
+     * events themselves go to one instance only. An instance that cannot be reached keeps its copies until the
+     * cache TTL ({@code student-cache.ttl}) expires them.
+     */
+    public void invalidateCachedStudents(List<Long> studentIds) {
+        for (ServiceInstance instance : discoveryClient.getInstances(SERVICE_ID)) {
+            try {
+                instanceClient.post()
+                        .uri(instance.getUri().resolve("/internal/student-cache/invalidations"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(studentIds)
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (RuntimeException ex) {
+                log.warn("Could not invalidate {} cached students on {}: {}", studentIds.size(), instance.getUri(),
+                        ex.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.infnet.studentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private Duration entityTtl = Duration.ofMinutes(10);
+
+    private long entityMaximumSize = 10_000;
+
+    private int invalidationBatchSize = 1000;
+
+}
@@ -0,0 +1,14 @@
+package com.infnet.studentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "student-changes")
+public class StudentChangeFeedProperties {
+
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+}
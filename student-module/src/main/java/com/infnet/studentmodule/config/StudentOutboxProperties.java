@@ -0,0 +1,20 @@
+package com.infnet.studentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "student-outbox")
+public class StudentOutboxProperties {
+
+    private boolean relayEnabled = true;
+
+    private int batchSize = 100;
+
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    private Duration retention = Duration.ofDays(1);
+
+}
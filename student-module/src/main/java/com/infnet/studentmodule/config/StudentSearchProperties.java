@@ -0,0 +1,16 @@
+package com.infnet.studentmodule.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "student-search")
+public class StudentSearchProperties {
+
+    private int syncBatchSize = 1000;
+
+    private int maxResultWindow = 1000;
+
+    private int fuzzyMinLength = 4;
+
+}
@@ -1,24 +1,38 @@
 package com.infnet.studentmodule.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infnet.studentmodule.dto.BulkImportResponseDTO;
+import com.infnet.studentmodule.dto.CursorPageResponseDTO;
+import com.infnet.studentmodule.dto.StudentChangeFeedDTO;
 import com.infnet.studentmodule.dto.StudentRequestDTO;
 import com.infnet.studentmodule.dto.StudentResponseDTO;
 import com.infnet.studentmodule.service.StudentService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/students")
+@Timed(value = "student.controller", percentiles = {0.5, 0.95, 0.99}, histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class StudentController {
 
     private final StudentService studentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<StudentResponseDTO> createStudent(@Valid @RequestBody StudentRequestDTO requestDTO) {
@@ -27,6 +41,22 @@ public class StudentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResponseDTO> importStudents(@RequestBody List<StudentRequestDTO> requests) {
+        log.info("POST /students/bulk - Importing {} students", requests.size());
+        BulkImportResponseDTO response = studentService.importStudents(requests.iterator());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResponseDTO> importStudentsStream(InputStream body) throws IOException {
+        log.info("POST /students/bulk - Importing students from NDJSON stream");
+        try (MappingIterator<StudentRequestDTO> requests = objectMapper.readerFor(StudentRequestDTO.class).readValues(body)) {
+            BulkImportResponseDTO response = studentService.importStudents(requests);
+            return ResponseEntity.ok(response);
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<StudentResponseDTO> getStudentById(@PathVariable Long id) {
         log.info("GET /students/{} - Fetching student", id);
@@ -41,6 +71,60 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponseDTO<StudentResponseDTO>> getStudentsPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /students/page - Fetching students after cursor {}", cursor);
+        CursorPageResponseDTO<StudentResponseDTO> response = studentService.getStudentsPage(cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<StudentChangeFeedDTO> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /students/changes - Fetching changes since version {}", since);
+        StudentChangeFeedDTO response = studentService.getChangesSince(since, limit);
+        // Must never be answered from a cache, or a consumer could skip changes
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDTO<StudentResponseDTO>> searchStudents(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("GET /students/search - Searching students after position {}", cursor);
+        CursorPageResponseDTO<StudentResponseDTO> response = studentService.searchStudents(q, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStudents() {
+        log.info("GET /students/stream - Streaming all students");
+        StreamingResponseBody body = outputStream -> studentService.streamAllStudents(student -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(student));
+                outputStream.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<StudentResponseDTO>> getStudentsByIds(@RequestBody List<Long> ids) {
+        log.info("POST /students/batch - Fetching {} students", ids.size());
+        List<StudentResponseDTO> response = studentService.getStudentsByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<StudentResponseDTO> updateStudent(
             @PathVariable Long id,
@@ -50,6 +134,13 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{id}/deactivate")
+    public ResponseEntity<StudentResponseDTO> deactivateStudent(@PathVariable Long id) {
+        log.info("PATCH /students/{}/deactivate - Deactivating student", id);
+        StudentResponseDTO response = studentService.deactivateStudent(id);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteStudent(@PathVariable Long id) {
         log.info("DELETE /students/{} - Deleting student", id);
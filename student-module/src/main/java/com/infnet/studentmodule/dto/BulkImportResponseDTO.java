@@ -0,0 +1,19 @@
+package com.infnet.studentmodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponseDTO {
+
+    private int total;
+    private int created;
+    private int rejected;
+    private List<BulkStudentResultDTO> results;
+
+}
@@ -0,0 +1,17 @@
+package com.infnet.studentmodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStudentResultDTO {
+
+    private int index;
+    private String status;
+    private Long id;
+    private String message;
+
+}
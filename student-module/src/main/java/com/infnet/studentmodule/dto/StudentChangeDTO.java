@@ -0,0 +1,17 @@
+package com.infnet.studentmodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentChangeDTO {
+
+    private Long version;
+    private Long studentId;
+    private boolean deleted;
+    private StudentResponseDTO student;
+
+}
@@ -0,0 +1,18 @@
+package com.infnet.studentmodule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentChangeFeedDTO {
+
+    private List<StudentChangeDTO> changes;
+    private Long next;
+    private boolean hasMore;
+
+}
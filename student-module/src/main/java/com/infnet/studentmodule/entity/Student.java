@@ -1,21 +1,27 @@
 package com.infnet.studentmodule.entity;
 
+import com.infnet.studentmodule.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "students")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.STUDENT_REGION)
+@Table(name = "students", indexes = @Index(name = "idx_students_change_version", columnList = "change_version"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -33,4 +39,7 @@ public class Student {
     @Column(nullable = false)
     private Boolean active = true;
 
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.infnet.studentmodule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single row holding the last student change version handed out and the highest version of the tombstones
+ * purged so far.
+ */
+@Entity
+@Table(name = "student_change_counter")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentChangeCounter {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "purged_version", nullable = false)
+    private Long purgedVersion;
+
+}
@@ -0,0 +1,43 @@
+package com.infnet.studentmodule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "student_outbox", indexes = @Index(name = "idx_student_outbox_published_at", columnList = "published_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_outbox_seq")
+    @SequenceGenerator(name = "student_outbox_seq", sequenceName = "student_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType;
+
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
+    @Column(length = 2000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+}
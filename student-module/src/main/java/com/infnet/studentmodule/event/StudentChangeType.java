@@ -0,0 +1,10 @@
+package com.infnet.studentmodule.event;
+
+public enum StudentChangeType {
+
+    CREATED,
+    UPDATED,
+    DEACTIVATED,
+    DELETED
+
+}
@@ -0,0 +1,5 @@
+package com.infnet.studentmodule.event;
+
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+
+public record StudentChangedEvent(Long studentId, StudentChangeType type, StudentResponseDTO student, long changeVersion) {}
@@ -0,0 +1,107 @@
+package com.infnet.studentmodule.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infnet.studentmodule.client.EnrollmentClient;
+import com.infnet.studentmodule.config.StudentOutboxProperties;
+import com.infnet.studentmodule.dto.StudentEventDTO;
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+import com.infnet.studentmodule.entity.StudentOutboxEvent;
+import com.infnet.studentmodule.repository.StudentOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "student-outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class StudentOutboxRelay {
+
+    private final StudentOutboxRepository outboxRepository;
+    private final EnrollmentClient enrollmentClient;
+    private final StudentOutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Claims a batch, commits, and only then calls Enrollment Service, so no row lock is held across the HTTP
+     * calls. A claim lasts {@code claim-timeout}; rows of a relay that dies mid-delivery become claimable again
+     * after it, and the projection ignores the events it already applied.
+     */
+    @Scheduled(fixedDelayString = "${student-outbox.poll-interval-ms:1000}")
+    public void relayPendingEvents() {
+        List<StudentOutboxEvent> claimed = transactionTemplate.execute(status -> claimPendingEvents());
+
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = claimed.stream()
+                .map(StudentOutboxEvent::getId)
+                .toList();
+
+        try {
+            enrollmentClient.publishStudentEvents(claimed.stream()
+                    .map(this::convertToEventDTO)
+                    .toList());
+        } catch (RuntimeException ex) {
+            log.warn("Could not relay {} student events to Enrollment Service: {}", claimed.size(), ex.getMessage());
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseClaims(ids));
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markPublished(ids, LocalDateTime.now()));
+        enrollmentClient.invalidateCachedStudents(claimed.stream()
+                .map(StudentOutboxEvent::getStudentId)
+                .distinct()
+                .toList());
+
+        log.info("Relayed {} student events to Enrollment Service", claimed.size());
+    }
+
+    private List<StudentOutboxEvent> claimPendingEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StudentOutboxEvent> pending = outboxRepository.findClaimableForUpdate(now,
+                PageRequest.of(0, properties.getBatchSize()));
+
+        LocalDateTime claimedUntil = now.plus(properties.getClaimTimeout());
+        pending.forEach(event -> event.setClaimedUntil(claimedUntil));
+        return pending;
+    }
+
+    @Scheduled(cron = "${student-outbox.cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void purgePublishedEvents() {
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("Purged {} published student events", deleted);
+    }
+
+    private StudentEventDTO convertToEventDTO(StudentOutboxEvent event) {
+        return new StudentEventDTO(
+                event.getId(),
+                event.getStudentId(),
+                event.getEventType(),
+                event.getChangeVersion(),
+                event.getPayload() != null ? readStudent(event) : null,
+                event.getCreatedAt()
+        );
+    }
+
+    private StudentResponseDTO readStudent(StudentOutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), StudentResponseDTO.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt payload in student outbox event " + event.getId(), ex);
+        }
+    }
+
+}
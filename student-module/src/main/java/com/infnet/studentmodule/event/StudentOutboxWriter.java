@@ -0,0 +1,40 @@
+package com.infnet.studentmodule.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infnet.studentmodule.entity.StudentOutboxEvent;
+import com.infnet.studentmodule.repository.StudentOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class StudentOutboxWriter {
+
+    private final StudentOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        StudentOutboxEvent outboxEvent = new StudentOutboxEvent();
+        outboxEvent.setStudentId(event.studentId());
+        outboxEvent.setEventType(event.type().name());
+        outboxEvent.setChangeVersion(event.changeVersion());
+        outboxEvent.setPayload(event.student() != null ? toJson(event) : null);
+        outboxEvent.setCreatedAt(LocalDateTime.now());
+
+        outboxRepository.save(outboxEvent);
+    }
+
+    private String toJson(StudentChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.student());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize student " + event.studentId(), ex);
+        }
+    }
+
+}
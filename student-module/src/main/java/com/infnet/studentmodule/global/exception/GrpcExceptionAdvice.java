@@ -0,0 +1,29 @@
+package com.infnet.studentmodule.global.exception;
+
+import io.grpc.Status;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Maps exceptions of gRPC calls to statuses, as {@link GlobalExceptionHandler} does to HTTP statuses.
+ */
+@GrpcAdvice
+public class GrpcExceptionAdvice {
+
+    @GrpcExceptionHandler(StudentNotFoundException.class)
+    public Status handleStudentNotFoundException(StudentNotFoundException ex) {
+        return Status.NOT_FOUND.withDescription(ex.getMessage());
+    }
+
+    @GrpcExceptionHandler(IllegalArgumentException.class)
+    public Status handleIllegalArgumentException(IllegalArgumentException ex) {
+        return Status.INVALID_ARGUMENT.withDescription(ex.getMessage());
+    }
+
+    @GrpcExceptionHandler(CannotCreateTransactionException.class)
+    public Status handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        return Status.UNAVAILABLE.withDescription("Database is busy, please retry");
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.infnet.studentmodule.global.exception;
+
+public class StudentSearchUnavailableException extends RuntimeException {
+
+    public StudentSearchUnavailableException(String message) {
+        super(message);
+    }
+
+}
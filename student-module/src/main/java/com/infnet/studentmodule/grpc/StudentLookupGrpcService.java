@@ -0,0 +1,130 @@
+package com.infnet.studentmodule.grpc;
+
+import com.infnet.studentmodule.dto.CursorPageResponseDTO;
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+import com.infnet.studentmodule.service.StudentService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * gRPC counterpart of the lookups enrollment-service makes through {@code StudentController}. Failures are
+ * turned into gRPC statuses by {@code GrpcExceptionAdvice}.
+ */
+@GrpcService
+@RequiredArgsConstructor
+@Slf4j
+public class StudentLookupGrpcService extends StudentLookupServiceGrpc.StudentLookupServiceImplBase {
+
+    private static final int STREAM_PAGE_SIZE = 500;
+
+    private final StudentService studentService;
+
+    @Override
+    public void getStudent(GetStudentRequest request, StreamObserver<Student> responseObserver) {
+        responseObserver.onNext(toMessage(studentService.getStudentById(request.getId())));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getStudents(GetStudentsRequest request, StreamObserver<GetStudentsResponse> responseObserver) {
+        GetStudentsResponse.Builder response = GetStudentsResponse.newBuilder();
+        studentService.getStudentsByIds(request.getIdsList())
+                .forEach(student -> response.addStudents(toMessage(student)));
+
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void streamStudents(StreamStudentsRequest request, StreamObserver<Student> responseObserver) {
+        if (request.getLimit() < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+
+        ServerCallStreamObserver<Student> observer = (ServerCallStreamObserver<Student>) responseObserver;
+        StudentStream stream = new StudentStream(observer, request.getAfterId(), request.getLimit());
+        observer.setOnCancelHandler(stream::cancel);
+        observer.setOnReadyHandler(stream);
+        stream.run();
+    }
+
+    static Student toMessage(StudentResponseDTO student) {
+        Student.Builder message = Student.newBuilder()
+                .setId(student.getId())
+                .setName(student.getName())
+                .setEmail(student.getEmail())
+                .setCpf(student.getCpf())
+                .setActive(Boolean.TRUE.equals(student.getActive()));
+        if (student.getBirthDate() != null) {
+            message.setBirthDate(student.getBirthDate().toString());
+        }
+        return message.build();
+    }
+
+    /**
+     * Sends one page of students at a time and only while the client keeps up: it stops when the transport
+     * buffer is full and resumes from the ready handler, so a slow client never makes the server buffer the
+     * whole table.
+     */
+    private class StudentStream implements Runnable {
+
+        private final ServerCallStreamObserver<Student> observer;
+        private final int limit;
+        private Long cursor;
+        private int sent;
+        private Iterator<StudentResponseDTO> page = Collections.emptyIterator();
+        private boolean lastPage;
+        private boolean finished;
+        private volatile boolean cancelled;
+
+        StudentStream(ServerCallStreamObserver<Student> observer, long afterId, int limit) {
+            this.observer = observer;
+            this.cursor = afterId;
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void run() {
+            try {
+                while (!finished && !cancelled && observer.isReady()) {
+                    if (page.hasNext()) {
+                        observer.onNext(toMessage(page.next()));
+                        sent++;
+                    } else if (lastPage || (limit > 0 && sent >= limit)) {
+                        finished = true;
+                        observer.onCompleted();
+                    } else {
+                        nextPage();
+                    }
+                }
+            } catch (RuntimeException ex) {
+                log.error("Streaming students after ID {} failed", cursor, ex);
+                finished = true;
+                observer.onError(Status.INTERNAL
+                        .withDescription("Could not stream students")
+                        .asRuntimeException());
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        private void nextPage() {
+            int size = limit > 0 ? Math.min(STREAM_PAGE_SIZE, limit - sent) : STREAM_PAGE_SIZE;
+            CursorPageResponseDTO<StudentResponseDTO> students = studentService.getStudentsPage(cursor, size);
+            page = students.getItems().iterator();
+            cursor = students.getNext();
+            lastPage = students.getNext() == null;
+        }
+
+    }
+
+}
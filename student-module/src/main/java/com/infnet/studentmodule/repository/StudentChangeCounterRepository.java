@@ -0,0 +1,33 @@
+package com.infnet.studentmodule.repository;
+
+import com.infnet.studentmodule.entity.StudentChangeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StudentChangeCounterRepository extends JpaRepository<StudentChangeCounter, Integer> {
+
+    /**
+     * Hands out {@code count} versions. The row stays locked until the calling transaction ends, so versions
+     * become visible in the order they were handed out.
+     */
+    @Modifying
+    @Query("update StudentChangeCounter c set c.version = c.version + :count where c.id = :id")
+    int advance(@Param("id") Integer id, @Param("count") long count);
+
+    @Query("select c.version from StudentChangeCounter c where c.id = :id")
+    Optional<Long> findVersion(@Param("id") Integer id);
+
+    @Modifying
+    @Query("update StudentChangeCounter c set c.purgedVersion = :version where c.id = :id and c.purgedVersion < :version")
+    int advancePurgedVersion(@Param("id") Integer id, @Param("version") Long version);
+
+    @Query("select c.purgedVersion from StudentChangeCounter c where c.id = :id")
+    Optional<Long> findPurgedVersion(@Param("id") Integer id);
+
+}
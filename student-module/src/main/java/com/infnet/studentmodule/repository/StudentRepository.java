@@ -1,10 +1,21 @@
 package com.infnet.studentmodule.repository;
 
+import com.infnet.studentmodule.dto.StudentResponseDTO;
 import com.infnet.studentmodule.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
@@ -13,8 +24,28 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     Optional<Student> findByCpf(String cpf);
 
+    // Uniqueness checks go to the database: a cached "not found" from before another instance's insert would let
+    // a duplicate through to the unique constraint
     boolean existsByEmail(String email);
 
     boolean existsByCpf(String cpf);
 
+    @Query("select s.email from Student s where s.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select s.cpf from Student s where s.cpf in :cpfs")
+    Set<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Student> findByChangeVersionGreaterThanOrderByChangeVersionAsc(Long version, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.infnet.studentmodule.dto.StudentResponseDTO(s.id, s.name, s.email, s.cpf, s.birthDate, s.active) " +
+            "from Student s order by s.id")
+    Stream<StudentResponseDTO> streamAllAsResponse();
+
 }
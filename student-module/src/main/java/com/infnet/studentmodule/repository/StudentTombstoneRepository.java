@@ -0,0 +1,26 @@
+package com.infnet.studentmodule.repository;
+
+import com.infnet.studentmodule.entity.StudentTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StudentTombstoneRepository extends JpaRepository<StudentTombstone, Long> {
+
+    List<StudentTombstone> findByChangeVersionGreaterThanOrderByChangeVersionAsc(Long version, Pageable pageable);
+
+    @Query("select max(t.changeVersion) from StudentTombstone t where t.deletedAt < :before")
+    Long findMaxVersionDeletedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("delete from StudentTombstone t where t.changeVersion <= :version")
+    int deleteUpToVersion(@Param("version") Long version);
+
+}
@@ -0,0 +1,5 @@
+package com.infnet.studentmodule.search;
+
+import java.util.List;
+
+public record StudentSearchHits(List<Long> studentIds, boolean hasMore) {}
@@ -0,0 +1,220 @@
+package com.infnet.studentmodule.search;
+
+import com.infnet.studentmodule.config.StudentSearchProperties;
+import com.infnet.studentmodule.global.exception.StudentSearchUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory Lucene index of student names. Names are split into words, lowercased and stripped of accents, so
+ * "joao" finds "João". Every word of a query must match a word of the name exactly, as a prefix or, for longer
+ * words, within one or two typos; exact matches rank first. Kept current by {@link StudentSearchIndexer}.
+ */
+@Component
+public class StudentSearchIndex {
+
+    private static final String ID = "id";
+    private static final String ID_ORDER = "id_order";
+    private static final String NAME = "name";
+
+    private static final float EXACT_BOOST = 3f;
+    private static final float PREFIX_BOOST = 2f;
+
+    // Best match first; equal matches in id order, so pages do not overlap
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(ID_ORDER, SortField.Type.LONG));
+
+    private final StudentSearchProperties properties;
+    private final Analyzer analyzer = new NameAnalyzer();
+    private final Directory directory = new ByteBuffersDirectory();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private volatile boolean ready;
+
+    public StudentSearchIndex(StudentSearchProperties properties) {
+        this.properties = properties;
+        try {
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void index(Long studentId, String name) {
+        Document document = new Document();
+        document.add(new StringField(ID, studentId.toString(), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID_ORDER, studentId));
+        document.add(new TextField(NAME, name, Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(ID, studentId.toString()), document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        changed.set(true);
+    }
+
+    public void delete(Long studentId) {
+        try {
+            writer.deleteDocuments(new Term(ID, studentId.toString()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        changed.set(true);
+    }
+
+    /**
+     * Empties the index for a rebuild. Searches are refused until the rebuilt index is published.
+     */
+    public void clear() {
+        ready = false;
+        try {
+            writer.deleteAll();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Makes everything indexed so far visible to searches.
+     */
+    public void publish() {
+        changed.set(false);
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public StudentSearchHits search(String text, long offset, int limit) {
+        if (offset + limit > properties.getMaxResultWindow()) {
+            throw new IllegalArgumentException("Search results are limited to the first "
+                    + properties.getMaxResultWindow() + " matches, refine the query");
+        }
+        if (!ready) {
+            throw new StudentSearchUnavailableException("Student search index is still loading, please retry");
+        }
+
+        Query query = toQuery(text);
+        try {
+            // Changes indexed after a write on this instance become visible to the next search
+            if (changed.getAndSet(false)) {
+                searcherManager.maybeRefreshBlocking();
+            }
+
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs top = searcher.search(query, (int) offset + limit + 1, RANKING);
+
+                List<Long> studentIds = new ArrayList<>(limit);
+                for (int i = (int) offset; i < Math.min(top.scoreDocs.length, offset + limit); i++) {
+                    studentIds.add((Long) ((FieldDoc) top.scoreDocs[i]).fields[1]);
+                }
+                return new StudentSearchHits(studentIds, top.scoreDocs.length > offset + limit);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    private Query toQuery(String text) {
+        List<String> words = analyze(text);
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain letters or digits");
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String word : words) {
+            Term term = new Term(NAME, word);
+            BooleanQuery.Builder match = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(term), EXACT_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(term), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+            if (word.length() >= properties.getFuzzyMinLength()) {
+                // The first letter must match: that is how people misspell names, and it keeps the lookup cheap
+                match.add(new FuzzyQuery(term, word.length() > 6 ? 2 : 1, 1), BooleanClause.Occur.SHOULD);
+            }
+            query.add(match.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return words;
+    }
+
+    private static class NameAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+
+    }
+
+}
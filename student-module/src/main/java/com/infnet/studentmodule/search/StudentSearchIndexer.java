@@ -0,0 +1,96 @@
+package com.infnet.studentmodule.search;
+
+import com.infnet.studentmodule.config.StudentSearchProperties;
+import com.infnet.studentmodule.dto.StudentChangeDTO;
+import com.infnet.studentmodule.dto.StudentChangeFeedDTO;
+import com.infnet.studentmodule.event.StudentChangeType;
+import com.infnet.studentmodule.event.StudentChangedEvent;
+import com.infnet.studentmodule.global.exception.ChangeFeedExpiredException;
+import com.infnet.studentmodule.service.StudentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps {@link StudentSearchIndex} in step with the database. Writes made on this instance are indexed as soon as
+ * they commit; the student change feed is replayed on a fixed delay to pick up writes made on other instances and
+ * to repair anything applied out of order. The first replay, from version 0, builds the index after startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentSearchIndexer {
+
+    private final StudentService studentService;
+    private final StudentSearchIndex searchIndex;
+    private final StudentSearchProperties properties;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private long syncedVersion;
+
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.type() == StudentChangeType.DELETED) {
+            searchIndex.delete(event.studentId());
+        } else {
+            searchIndex.index(event.studentId(), event.student().getName());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        log.info("Building student search index");
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${student-search.sync-interval-ms:1000}")
+    public void refresh() {
+        // Stay off the scheduler thread while the startup build runs
+        if (!syncLock.isLocked()) {
+            sync();
+        }
+    }
+
+    public void sync() {
+        syncLock.lock();
+        try {
+            try {
+                catchUp();
+            } catch (ChangeFeedExpiredException ex) {
+                log.warn("Student search index fell behind the change feed, rebuilding it: {}", ex.getMessage());
+                searchIndex.clear();
+                syncedVersion = 0;
+                catchUp();
+            }
+            searchIndex.publish();
+        } catch (RuntimeException ex) {
+            log.warn("Student search index sync stopped at version {}: {}", syncedVersion, ex.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void catchUp() {
+        StudentChangeFeedDTO feed;
+        do {
+            feed = studentService.getChangesSince(syncedVersion, properties.getSyncBatchSize());
+            for (StudentChangeDTO change : feed.getChanges()) {
+                if (change.isDeleted()) {
+                    searchIndex.delete(change.getStudentId());
+                } else {
+                    searchIndex.index(change.getStudentId(), change.getStudent().getName());
+                }
+            }
+            syncedVersion = feed.getNext();
+        } while (feed.isHasMore());
+    }
+
+}
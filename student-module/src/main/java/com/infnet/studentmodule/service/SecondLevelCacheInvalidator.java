@@ -0,0 +1,66 @@
+package com.infnet.studentmodule.service;
+
+import com.infnet.studentmodule.config.SecondLevelCacheProperties;
+import com.infnet.studentmodule.dto.StudentChangeDTO;
+import com.infnet.studentmodule.dto.StudentChangeFeedDTO;
+import com.infnet.studentmodule.entity.Student;
+import com.infnet.studentmodule.global.exception.ChangeFeedExpiredException;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts students changed on other instances from this instance's second-level cache. Writes made here update the
+ * cache as they commit; everyone else's are found by polling the student change feed on a fixed delay, so a cached
+ * student lags the database by about one interval instead of up to {@code second-level-cache.entity-ttl}.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+@Slf4j
+public class SecondLevelCacheInvalidator {
+
+    private final StudentService studentService;
+    private final StudentChangeTracker changeTracker;
+    private final SecondLevelCacheProperties properties;
+    private final Cache cache;
+
+    private long syncedVersion = -1;
+
+    public SecondLevelCacheInvalidator(StudentService studentService, StudentChangeTracker changeTracker,
+                                       SecondLevelCacheProperties properties, EntityManagerFactory entityManagerFactory) {
+        this.studentService = studentService;
+        this.changeTracker = changeTracker;
+        this.properties = properties;
+        this.cache = entityManagerFactory.getCache();
+    }
+
+    @Scheduled(fixedDelayString = "${second-level-cache.invalidation-interval-ms:1000}")
+    public synchronized void evictChangedStudents() {
+        try {
+            if (syncedVersion < 0) {
+                // Whatever was cached before the starting version is read is dropped rather than checked
+                syncedVersion = changeTracker.currentVersion();
+                cache.evict(Student.class);
+                return;
+            }
+
+            StudentChangeFeedDTO feed;
+            do {
+                feed = studentService.getChangesSince(syncedVersion, properties.getInvalidationBatchSize());
+                for (StudentChangeDTO change : feed.getChanges()) {
+                    cache.evict(Student.class, change.getStudentId());
+                }
+                syncedVersion = feed.getNext();
+            } while (feed.isHasMore());
+        } catch (ChangeFeedExpiredException ex) {
+            log.warn("Second-level cache fell behind the change feed, evicting all students: {}", ex.getMessage());
+            syncedVersion = -1;
+        } catch (RuntimeException ex) {
+            log.warn("Second-level cache invalidation stopped at version {}: {}", syncedVersion, ex.getMessage());
+        }
+    }
+
+}
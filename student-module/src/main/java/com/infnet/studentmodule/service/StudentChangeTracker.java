@@ -0,0 +1,106 @@
+package com.infnet.studentmodule.service;
+
+import com.infnet.studentmodule.config.StudentChangeFeedProperties;
+import com.infnet.studentmodule.entity.StudentChangeCounter;
+import com.infnet.studentmodule.repository.StudentChangeCounterRepository;
+import com.infnet.studentmodule.repository.StudentTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hands out the change versions of the student change feed from a single counter row. Incrementing the row
+ * locks it until the writing transaction ends, so a higher version can never commit before a lower one and a
+ * consumer that has read up to version N will not see a change numbered N or below appear later. The price is
+ * that student writes serialize on the counter from the moment they take a version, which is why callers take
+ * it right before saving.
+ */
+@Component
+@Slf4j
+public class StudentChangeTracker {
+
+    private static final int COUNTER_ID = 1;
+
+    private final StudentChangeCounterRepository counterRepository;
+    private final StudentTombstoneRepository tombstoneRepository;
+    private final StudentChangeFeedProperties properties;
+    private final TransactionTemplate newTransaction;
+
+    public StudentChangeTracker(StudentChangeCounterRepository counterRepository,
+                                StudentTombstoneRepository tombstoneRepository,
+                                StudentChangeFeedProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.properties = properties;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns the first of {@code count} consecutive versions.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long allocate(int count) {
+        if (counterRepository.advance(COUNTER_ID, count) == 0) {
+            createCounter();
+            if (counterRepository.advance(COUNTER_ID, count) == 0) {
+                throw new IllegalStateException("Student change counter could not be created");
+            }
+        }
+
+        return counterRepository.findVersion(COUNTER_ID).orElseThrow() - count + 1;
+    }
+
+    /**
+     * Last version handed out; 0 before the first write.
+     */
+    @Transactional(readOnly = true)
+    public long currentVersion() {
+        return counterRepository.findVersion(COUNTER_ID).orElse(0L);
+    }
+
+    /**
+     * Highest version whose tombstone may already have been purged; 0 while nothing was purged.
+     */
+    @Transactional(readOnly = true)
+    public long purgedVersion() {
+        return counterRepository.findPurgedVersion(COUNTER_ID).orElse(0L);
+    }
+
+    @Scheduled(cron = "${student-changes.cleanup-cron:0 30 * * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        Long version = tombstoneRepository.findMaxVersionDeletedBefore(
+                LocalDateTime.now().minus(properties.getTombstoneRetention()));
+        if (version == null) {
+            return;
+        }
+
+        counterRepository.advancePurgedVersion(COUNTER_ID, version);
+        int deleted = tombstoneRepository.deleteUpToVersion(version);
+        log.info("Purged {} student tombstones up to change version {}", deleted, version);
+    }
+
+    private void createCounter() {
+        // Flyway seeds the row; schemas generated by Hibernate start without it
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!counterRepository.existsById(COUNTER_ID)) {
+                    counterRepository.save(new StudentChangeCounter(COUNTER_ID, 0L, 0L));
+                }
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Student change counter was created concurrently");
+        }
+    }
+
+}
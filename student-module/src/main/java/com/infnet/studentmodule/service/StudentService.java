@@ -1,20 +1,39 @@
 package com.infnet.studentmodule.service;
 
+import com.infnet.studentmodule.dto.BulkImportResponseDTO;
+import com.infnet.studentmodule.dto.CursorPageResponseDTO;
+import com.infnet.studentmodule.dto.StudentChangeFeedDTO;
 import com.infnet.studentmodule.dto.StudentRequestDTO;
 import com.infnet.studentmodule.dto.StudentResponseDTO;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface StudentService {
 
     StudentResponseDTO createStudent(StudentRequestDTO requestDTO);
 
+    BulkImportResponseDTO importStudents(Iterator<StudentRequestDTO> requests);
+
     StudentResponseDTO getStudentById(Long id);
 
     List<StudentResponseDTO> getAllStudents();
 
+    List<StudentResponseDTO> getStudentsByIds(List<Long> ids);
+
+    CursorPageResponseDTO<StudentResponseDTO> getStudentsPage(Long cursor, int limit);
+
+    void streamAllStudents(Consumer<StudentResponseDTO> consumer);
+
+    StudentChangeFeedDTO getChangesSince(Long since, int limit);
+
+    CursorPageResponseDTO<StudentResponseDTO> searchStudents(String query, Long cursor, int limit);
+
     StudentResponseDTO updateStudent(Long id, StudentRequestDTO requestDTO);
 
+    StudentResponseDTO deactivateStudent(Long id);
+
     void deleteStudent(Long id);
 
 }
@@ -1,24 +1,68 @@
 package com.infnet.studentmodule.service;
 
+import com.infnet.studentmodule.dto.BulkImportResponseDTO;
+import com.infnet.studentmodule.dto.BulkStudentResultDTO;
+import com.infnet.studentmodule.dto.CursorPageResponseDTO;
+import com.infnet.studentmodule.dto.StudentChangeDTO;
+import com.infnet.studentmodule.dto.StudentChangeFeedDTO;
 import com.infnet.studentmodule.dto.StudentRequestDTO;
 import com.infnet.studentmodule.dto.StudentResponseDTO;
 import com.infnet.studentmodule.entity.Student;
+import com.infnet.studentmodule.entity.StudentTombstone;
+import com.infnet.studentmodule.event.StudentChangeType;
+import com.infnet.studentmodule.event.StudentChangedEvent;
+import com.infnet.studentmodule.global.exception.ChangeFeedExpiredException;
 import com.infnet.studentmodule.global.exception.StudentNotFoundException;
 import com.infnet.studentmodule.repository.StudentRepository;
+import com.infnet.studentmodule.repository.StudentTombstoneRepository;
+import com.infnet.studentmodule.search.StudentSearchHits;
+import com.infnet.studentmodule.search.StudentSearchIndex;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StudentServiceImpl implements StudentService {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MIN_SEARCH_QUERY_LENGTH = 2;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final String BULK_STATUS_CREATED = "CREATED";
+    private static final String BULK_STATUS_REJECTED = "REJECTED";
+
     private final StudentRepository studentRepository;
+    private final StudentTombstoneRepository tombstoneRepository;
+    private final StudentChangeTracker changeTracker;
+    private final StudentSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
 
     @Override
     @Transactional
@@ -33,18 +77,46 @@ public class StudentServiceImpl implements StudentService {
             throw new IllegalArgumentException("CPF already exists: " + requestDTO.getCpf());
         }
 
-        Student student = new Student();
-        student.setName(requestDTO.getName());
-        student.setEmail(requestDTO.getEmail());
-        student.setCpf(requestDTO.getCpf());
-        student.setBirthDate(requestDTO.getBirthDate());
-        student.setActive(true);
+        Student student = convertToEntity(requestDTO);
+        student.setChangeVersion(changeTracker.allocate(1));
 
         Student savedStudent = studentRepository.save(student);
+        StudentResponseDTO response = convertToResponseDTO(savedStudent);
+
+        eventPublisher.publishEvent(new StudentChangedEvent(savedStudent.getId(), StudentChangeType.CREATED, response,
+                savedStudent.getChangeVersion()));
 
         log.info("Student created successfully with ID: {}", savedStudent.getId());
 
-        return convertToResponseDTO(savedStudent);
+        return response;
+    }
+
+    @Override
+    public BulkImportResponseDTO importStudents(Iterator<StudentRequestDTO> requests) {
+        log.info("Importing students in chunks of {}", BULK_CHUNK_SIZE);
+
+        List<BulkStudentResultDTO> results = new ArrayList<>();
+        List<StudentRequestDTO> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+
+        while (requests.hasNext()) {
+            chunk.add(requests.next());
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                results.addAll(importChunk(results.size(), chunk));
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(results.size(), chunk));
+        }
+
+        int created = (int) results.stream()
+                .filter(result -> BULK_STATUS_CREATED.equals(result.getStatus()))
+                .count();
+
+        log.info("Student import finished: {} created, {} rejected", created, results.size() - created);
+
+        return new BulkImportResponseDTO(results.size(), created, results.size() - created, results);
     }
 
     @Override
@@ -70,6 +142,140 @@ public class StudentServiceImpl implements StudentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentResponseDTO> getStudentsByIds(List<Long> ids) {
+        log.info("Fetching {} students by ID", ids.size());
+
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must not exceed " + MAX_BATCH_SIZE + " IDs");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+
+        List<Student> students = studentRepository.findAllById(distinctIds);
+
+        return students.stream()
+                .map(this::convertToResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<StudentResponseDTO> getStudentsPage(Long cursor, int limit) {
+        log.info("Fetching students page after ID: {} with limit: {}", cursor, limit);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Student> students = studentRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor : 0L, PageRequest.of(0, limit + 1));
+
+        boolean hasNext = students.size() > limit;
+        List<StudentResponseDTO> items = students.stream()
+                .limit(limit)
+                .map(this::convertToResponseDTO)
+                .collect(Collectors.toList());
+        Long next = hasNext ? items.get(items.size() - 1).getId() : null;
+
+        return new CursorPageResponseDTO<>(items, next);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllStudents(Consumer<StudentResponseDTO> consumer) {
+        log.info("Streaming all students");
+
+        try (Stream<StudentResponseDTO> students = studentRepository.streamAllAsResponse()) {
+            students.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public StudentChangeFeedDTO getChangesSince(Long since, int limit) {
+        log.info("Fetching student changes since version {} with limit: {}", since, limit);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long from = since != null ? since : 0L;
+        if (from < 0) {
+            throw new IllegalArgumentException("Version must not be negative");
+        }
+
+        // A consumer starting from scratch has nothing to delete, so only a resuming one can miss purged tombstones
+        long purgedVersion = changeTracker.purgedVersion();
+        if (from > 0 && from < purgedVersion) {
+            throw new ChangeFeedExpiredException("Changes up to version " + purgedVersion
+                    + " are no longer available, sync again from version 0");
+        }
+
+        // One snapshot for both queries, so a change committed between them cannot be skipped
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Student> students = studentRepository.findByChangeVersionGreaterThanOrderByChangeVersionAsc(from, page);
+        List<StudentTombstone> tombstones = tombstoneRepository.findByChangeVersionGreaterThanOrderByChangeVersionAsc(from, page);
+
+        List<StudentChangeDTO> changes = new ArrayList<>(limit + 1);
+        int s = 0;
+        int t = 0;
+        while (changes.size() <= limit && (s < students.size() || t < tombstones.size())) {
+            if (t == tombstones.size()
+                    || (s < students.size() && students.get(s).getChangeVersion() < tombstones.get(t).getChangeVersion())) {
+                Student student = students.get(s++);
+                changes.add(new StudentChangeDTO(student.getChangeVersion(), student.getId(), false,
+                        convertToResponseDTO(student)));
+            } else {
+                StudentTombstone tombstone = tombstones.get(t++);
+                changes.add(new StudentChangeDTO(tombstone.getChangeVersion(), tombstone.getStudentId(), true, null));
+            }
+        }
+
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes.remove(limit);
+        }
+        Long next = changes.isEmpty() ? from : changes.get(changes.size() - 1).getVersion();
+
+        return new StudentChangeFeedDTO(changes, next, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<StudentResponseDTO> searchStudents(String query, Long cursor, int limit) {
+        log.info("Searching students matching '{}' from position {} with limit: {}", query, cursor, limit);
+
+        String text = query != null ? query.strip() : "";
+        if (text.length() < MIN_SEARCH_QUERY_LENGTH || text.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must have between " + MIN_SEARCH_QUERY_LENGTH
+                    + " and " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        // The cursor is the position in the ranking: search results have no stable key order to resume from
+        long offset = cursor != null ? cursor : 0L;
+        if (offset < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative");
+        }
+
+        StudentSearchHits hits = searchIndex.search(text, offset, limit);
+        Map<Long, Student> students = studentRepository.findAllById(hits.studentIds()).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        // A hit can outlive its student by one index refresh; it is skipped rather than failing the page
+        List<StudentResponseDTO> items = hits.studentIds().stream()
+                .map(students::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToResponseDTO)
+                .collect(Collectors.toList());
+        Long next = hits.hasMore() ? offset + limit : null;
+
+        return new CursorPageResponseDTO<>(items, next);
+    }
+
     @Override
     @Transactional
     public StudentResponseDTO updateStudent(Long id, StudentRequestDTO requestDTO) {
@@ -94,12 +300,39 @@ public class StudentServiceImpl implements StudentService {
         student.setEmail(requestDTO.getEmail());
         student.setCpf(requestDTO.getCpf());
         student.setBirthDate(requestDTO.getBirthDate());
+        student.setChangeVersion(changeTracker.allocate(1));
 
         Student updatedStudent = studentRepository.save(student);
+        StudentResponseDTO response = convertToResponseDTO(updatedStudent);
+
+        eventPublisher.publishEvent(new StudentChangedEvent(updatedStudent.getId(), StudentChangeType.UPDATED, response,
+                updatedStudent.getChangeVersion()));
 
         log.info("Student updated successfully with ID: {}", updatedStudent.getId());
 
-        return convertToResponseDTO(updatedStudent);
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public StudentResponseDTO deactivateStudent(Long id) {
+        log.info("Deactivating student with ID: {}", id);
+
+        Student student = studentRepository.findById(id)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found with ID: " + id));
+
+        student.setActive(false);
+        student.setChangeVersion(changeTracker.allocate(1));
+
+        Student deactivatedStudent = studentRepository.save(student);
+        StudentResponseDTO response = convertToResponseDTO(deactivatedStudent);
+
+        eventPublisher.publishEvent(new StudentChangedEvent(id, StudentChangeType.DEACTIVATED, response,
+                deactivatedStudent.getChangeVersion()));
+
+        log.info("Student deactivated successfully with ID: {}", id);
+
+        return response;
     }
 
     @Override
@@ -110,11 +343,110 @@ public class StudentServiceImpl implements StudentService {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new StudentNotFoundException("Student not found with ID: " + id));
 
+        long version = changeTracker.allocate(1);
         studentRepository.delete(student);
+        tombstoneRepository.save(new StudentTombstone(id, version, LocalDateTime.now()));
+
+        eventPublisher.publishEvent(new StudentChangedEvent(id, StudentChangeType.DELETED, null, version));
 
         log.info("Student deleted successfully with ID: {}", id);
     }
 
+    private List<BulkStudentResultDTO> importChunk(int offset, List<StudentRequestDTO> chunk) {
+        List<StudentRequestDTO> rows = new ArrayList<>(chunk);
+        return transactionTemplate.execute(status -> {
+            Set<String> existingEmails = findExisting(rows, StudentRequestDTO::getEmail, studentRepository::findExistingEmails);
+            Set<String> existingCpfs = findExisting(rows, StudentRequestDTO::getCpf, studentRepository::findExistingCpfs);
+
+            List<BulkStudentResultDTO> results = new ArrayList<>(rows.size());
+            List<BulkStudentResultDTO> createdResults = new ArrayList<>();
+            List<Student> students = new ArrayList<>();
+
+            for (int i = 0; i < rows.size(); i++) {
+                StudentRequestDTO row = rows.get(i);
+                String error = validateImportRow(row, existingEmails, existingCpfs);
+
+                if (error != null) {
+                    results.add(new BulkStudentResultDTO(offset + i, BULK_STATUS_REJECTED, null, error));
+                    continue;
+                }
+
+                existingEmails.add(row.getEmail());
+                existingCpfs.add(row.getCpf());
+
+                BulkStudentResultDTO result = new BulkStudentResultDTO(offset + i, BULK_STATUS_CREATED, null, null);
+                results.add(result);
+                createdResults.add(result);
+                students.add(convertToEntity(row));
+            }
+
+            if (!students.isEmpty()) {
+                long version = changeTracker.allocate(students.size());
+                for (Student student : students) {
+                    student.setChangeVersion(version++);
+                }
+            }
+
+            studentRepository.saveAll(students);
+            studentRepository.flush();
+
+            for (int i = 0; i < students.size(); i++) {
+                Student student = students.get(i);
+                createdResults.get(i).setId(student.getId());
+                eventPublisher.publishEvent(new StudentChangedEvent(student.getId(), StudentChangeType.CREATED,
+                        convertToResponseDTO(student), student.getChangeVersion()));
+            }
+
+            return results;
+        });
+    }
+
+    private Set<String> findExisting(List<StudentRequestDTO> rows,
+                                     Function<StudentRequestDTO, String> key,
+                                     Function<Set<String>, Set<String>> query) {
+        Set<String> values = rows.stream()
+                .filter(Objects::nonNull)
+                .map(key)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return values.isEmpty() ? new HashSet<>() : new HashSet<>(query.apply(values));
+    }
+
+    private String validateImportRow(StudentRequestDTO row, Set<String> takenEmails, Set<String> takenCpfs) {
+        if (row == null) {
+            return "Student must not be null";
+        }
+
+        Set<ConstraintViolation<StudentRequestDTO>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        if (takenEmails.contains(row.getEmail())) {
+            return "Email already exists: " + row.getEmail();
+        }
+
+        if (takenCpfs.contains(row.getCpf())) {
+            return "CPF already exists: " + row.getCpf();
+        }
+
+        return null;
+    }
+
+    private Student convertToEntity(StudentRequestDTO requestDTO) {
+        Student student = new Student();
+        student.setName(requestDTO.getName());
+        student.setEmail(requestDTO.getEmail());
+        student.setCpf(requestDTO.getCpf());
+        student.setBirthDate(requestDTO.getBirthDate());
+        student.setActive(true);
+        return student;
+    }
+
     private StudentResponseDTO convertToResponseDTO(Student student) {
         return new StudentResponseDTO(
                 student.getId(),
@@ -0,0 +1,14 @@
+CREATE SEQUENCE students_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE students (
+    id         BIGINT       NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    cpf        VARCHAR(11)  NOT NULL,
+    birth_date DATE         NOT NULL,
+    active     BOOLEAN      NOT NULL,
+    CONSTRAINT pk_students PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_students_email ON students (email);
+CREATE UNIQUE INDEX uk_students_cpf ON students (cpf);
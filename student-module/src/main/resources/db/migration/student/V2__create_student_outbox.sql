@@ -0,0 +1,13 @@
+CREATE SEQUENCE student_outbox_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE student_outbox (
+    id           BIGINT        NOT NULL,
+    student_id   BIGINT        NOT NULL,
+    event_type   VARCHAR(20)   NOT NULL,
+    payload      VARCHAR(2000),
+    created_at   TIMESTAMP     NOT NULL,
+    published_at TIMESTAMP,
+    CONSTRAINT pk_student_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_student_outbox_published_at ON student_outbox (published_at);
@@ -0,0 +1,28 @@
+ALTER TABLE students ADD COLUMN change_version BIGINT;
+
+-- Existing rows get their id as version: unique, and below anything the counter hands out from now on
+UPDATE students SET change_version = id;
+
+ALTER TABLE students ALTER COLUMN change_version SET NOT NULL;
+
+CREATE INDEX idx_students_change_version ON students (change_version);
+
+CREATE TABLE student_tombstones (
+    student_id     BIGINT    NOT NULL,
+    change_version BIGINT    NOT NULL,
+    deleted_at     TIMESTAMP NOT NULL,
+    CONSTRAINT pk_student_tombstones PRIMARY KEY (student_id)
+);
+
+CREATE INDEX idx_student_tombstones_change_version ON student_tombstones (change_version);
+CREATE INDEX idx_student_tombstones_deleted_at ON student_tombstones (deleted_at);
+
+CREATE TABLE student_change_counter (
+    id             INTEGER NOT NULL,
+    version        BIGINT  NOT NULL,
+    purged_version BIGINT  NOT NULL,
+    CONSTRAINT pk_student_change_counter PRIMARY KEY (id)
+);
+
+INSERT INTO student_change_counter (id, version, purged_version)
+SELECT 1, COALESCE(MAX(change_version), 0), 0 FROM students;
@@ -0,0 +1,16 @@
+ALTER TABLE student_outbox ADD COLUMN change_version BIGINT;
+ALTER TABLE student_outbox ADD COLUMN claimed_until TIMESTAMP;
+
+-- Events written before versions existed: only the newest one of each student stands for its current version,
+-- older ones get 0 and are ignored by the projection
+UPDATE student_outbox o SET change_version = CASE
+    WHEN o.id = (SELECT MAX(n.id) FROM student_outbox n WHERE n.student_id = o.student_id)
+        THEN COALESCE((SELECT s.change_version FROM students s WHERE s.id = o.student_id),
+                      (SELECT t.change_version FROM student_tombstones t WHERE t.student_id = o.student_id), 0)
+    ELSE 0
+END;
+
+ALTER TABLE student_outbox ALTER COLUMN change_version SET NOT NULL;
+
+-- Pooled ids: Hibernate reserves 50 per round trip, so outbox inserts batch with the writes that produce them
+ALTER SEQUENCE student_outbox_seq INCREMENT BY 50;
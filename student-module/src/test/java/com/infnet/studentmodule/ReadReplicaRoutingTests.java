@@ -0,0 +1,146 @@
+package com.infnet.studentmodule;
+
+import com.infnet.readreplicamodule.config.ReadReplicaProperties.Selection;
+import com.infnet.readreplicamodule.datasource.ReadReplicaRoutingDataSource;
+import com.infnet.readreplicamodule.datasource.ReadRoutingContext;
+import com.infnet.readreplicamodule.datasource.ReplicaPool;
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+import com.infnet.studentmodule.entity.Student;
+import com.infnet.studentmodule.service.StudentService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the service against two H2 databases, a primary and a replica with the same schema but different rows,
+ * so every read shows which database served it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTests.PRIMARY_URL,
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration/student",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "read-replicas.enabled=true",
+        "read-replicas.replicas[0].name=replica-1",
+        "read-replicas.replicas[0].url=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "read-replicas.replicas[0].username=sa",
+        "spring.cloud.consul.enabled=false",
+        "student-outbox.relay-enabled=false",
+        "grpc.server.port=-1"
+})
+class ReadReplicaRoutingTests {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:studentdb-primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:studentdb-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final long REPLICA_ONLY_ID = 1000L;
+    private static final String REPLICA_ONLY_NAME = "Replica Only";
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/student")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void seedReplica() {
+        routingDataSource.checkReplicas(Duration.ofSeconds(1));
+        replica().update("MERGE INTO students (id, name, email, cpf, birth_date, active, change_version) "
+                + "KEY (id) VALUES (1000, ?, 'replica.only@example.com', '99999999999', DATE '2000-01-01', TRUE, 1000)",
+                REPLICA_ONLY_NAME);
+    }
+
+    @AfterEach
+    void clearRoutingContext() {
+        ReadRoutingContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() {
+        assertThat(names(studentService.getAllStudents())).contains(REPLICA_ONLY_NAME);
+    }
+
+    @Test
+    void readsAfterAWriteGoToPrimary() {
+        ReadRoutingContext.requirePrimary();
+
+        assertThat(names(studentService.getAllStudents())).doesNotContain(REPLICA_ONLY_NAME);
+    }
+
+    @Test
+    void replicaReadsDoNotFillSecondLevelCache() {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Student.class);
+
+        assertThat(studentService.getStudentById(REPLICA_ONLY_ID).getName()).isEqualTo(REPLICA_ONLY_NAME);
+
+        assertThat(cache.contains(Student.class, REPLICA_ONLY_ID)).isFalse();
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicaAnswers() {
+        HikariDataSource unreachable = new HikariDataSource();
+        unreachable.setJdbcUrl("jdbc:h2:tcp://localhost:1/unreachable");
+        unreachable.setUsername("sa");
+        unreachable.setConnectionTimeout(250);
+        unreachable.setInitializationFailTimeout(-1);
+        ReplicaPool replica = new ReplicaPool("unreachable", unreachable);
+
+        try (ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(
+                primaryDataSource, List.of(replica), Selection.ROUND_ROBIN, new SimpleMeterRegistry())) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+            TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readOnly.setReadOnly(true);
+
+            Integer replicaRows = readOnly.execute(status -> new JdbcTemplate(dataSource).queryForObject(
+                    "SELECT COUNT(*) FROM students WHERE name = ?", Integer.class, REPLICA_ONLY_NAME));
+
+            assertThat(replicaRows).isZero();
+            assertThat(replica.isHealthy()).isFalse();
+        }
+    }
+
+    private static JdbcTemplate replica() {
+        return new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    }
+
+    private static List<String> names(List<StudentResponseDTO> students) {
+        return students.stream()
+                .map(StudentResponseDTO::getName)
+                .toList();
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.infnet.studentmodule;
+
+import com.infnet.studentmodule.dto.CursorPageResponseDTO;
+import com.infnet.studentmodule.dto.StudentRequestDTO;
+import com.infnet.studentmodule.dto.StudentResponseDTO;
+import com.infnet.studentmodule.search.StudentSearchIndexer;
+import com.infnet.studentmodule.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:studentdb-search",
+        "spring.cloud.consul.enabled=false",
+        "student-outbox.relay-enabled=false",
+        "grpc.server.port=-1"
+})
+class StudentSearchTests {
+
+    private static final AtomicLong CPF = new AtomicLong(90000000000L);
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentSearchIndexer searchIndexer;
+
+    @BeforeEach
+    void waitForIndex() {
+        searchIndexer.sync();
+    }
+
+    @Test
+    void matchesWordPrefixesIgnoringCaseAndAccents() {
+        StudentResponseDTO student = create("Joana Conceição Bittencourt");
+
+        assertThat(search("JOA")).contains(student.getId());
+        assertThat(search("conceicao bitten")).contains(student.getId());
+    }
+
+    @Test
+    void toleratesTyposInLongerWords() {
+        StudentResponseDTO student = create("Bartolomeu Wanderley");
+
+        assertThat(search("Bartolomeo")).contains(student.getId());
+        assertThat(search("wanderlei")).contains(student.getId());
+    }
+
+    @Test
+    void requiresEveryWordToMatch() {
+        StudentResponseDTO prado = create("Rosalinda Prado");
+        StudentResponseDTO costa = create("Rosalinda Costa");
+
+        assertThat(search("rosalinda prado"))
+                .contains(prado.getId())
+                .doesNotContain(costa.getId());
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        StudentResponseDTO student = create("Teodoro Lima");
+        studentService.updateStudent(student.getId(), new StudentRequestDTO("Teodoro Ramos", student.getEmail(),
+                student.getCpf(), student.getBirthDate()));
+
+        assertThat(search("teodoro lima")).doesNotContain(student.getId());
+        assertThat(search("teodoro ramos")).contains(student.getId());
+
+        studentService.deleteStudent(student.getId());
+        searchIndexer.sync();
+
+        assertThat(search("teodoro")).doesNotContain(student.getId());
+    }
+
+    @Test
+    void pagesThroughRankedResults() {
+        List<Long> created = new ArrayList<>();
+        for (String surname : List.of("Alves", "Barros", "Cunha", "Duarte", "Esteves")) {
+            created.add(create("Quiteria " + surname).getId());
+        }
+
+        List<Long> found = new ArrayList<>();
+        Long cursor = null;
+        do {
+            CursorPageResponseDTO<StudentResponseDTO> page = studentService.searchStudents("quiteria", cursor, 2);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+            page.getItems().forEach(student -> found.add(student.getId()));
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        assertThat(found).containsExactlyInAnyOrderElementsOf(created);
+    }
+
+    @Test
+    void rejectsQueriesWithoutSearchableText() {
+        assertThatThrownBy(() -> studentService.searchStudents("a", null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> studentService.searchStudents("?!", null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StudentResponseDTO create(String name) {
+        String cpf = Long.toString(CPF.incrementAndGet());
+        return studentService.createStudent(new StudentRequestDTO(name, "student" + cpf + "@infnet.edu.br", cpf,
+                LocalDate.of(2000, 1, 1)));
+    }
+
+    private List<Long> search(String query) {
+        return studentService.searchStudents(query, null, 100).getItems().stream()
+                .map(StudentResponseDTO::getId)
+                .toList();
+    }
+
+}